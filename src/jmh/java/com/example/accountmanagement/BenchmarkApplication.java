@@ -0,0 +1,41 @@
+package com.example.accountmanagement;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * 웹 서버 없이 띄우고, 측정을 흐리는 SQL 로그와 백그라운드 작업은 끈다.
+ * (리액티브 조회 서버 / R2DBC 풀, 보관 배치, 복제 지연 확인, Redis 노드 PING)
+ * 임베디드 Redis(6379)를 함께 띄우므로 fork 한 JVM 에서 하나만 실행한다.
+ */
+public final class BenchmarkApplication {
+    private static final String[] DEFAULT_ARGS = {
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--logging.level.root=WARN",
+            "--account.archive.cron=-",
+            // 8081 포트를 열지 않아 개발 서버가 떠 있어도 fork 가 실패하지 않는다.
+            "--account.reactive.enabled=false",
+            // 복제 라우팅과 ReplicaLagMonitor 를 함께 끈다. (로컬은 같은 H2 를 가리키므로 조회 경로는 같다)
+            "--account.datasource.replica.enabled=false",
+            "--account.metrics.redisson.enabled=false"
+    };
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... args) {
+        List<String> allArgs = new ArrayList<>(Arrays.asList(DEFAULT_ARGS));
+        allArgs.addAll(Arrays.asList(args));
+
+        SpringApplication application = new SpringApplication(AccountManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        return application.run(allArgs.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.accountmanagement.dto;
+
+import com.example.accountmanagement.domain.Account;
+import com.example.accountmanagement.domain.Transaction;
+import com.example.accountmanagement.type.AccountStatus;
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 변환 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+    private Transaction transaction;
+    private TransactionDTO transactionDTO;
+
+    @Setup
+    public void setUp() {
+        Account account = Account.builder()
+                .accountNumber("1000000012")
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(10000L)
+                .build();
+        transaction = Transaction.builder()
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.SUCCESS)
+                .account(account)
+                .amount(1000L)
+                .balanceSnapshot(9000L)
+                .transactionId("0KZ1ZC0000001")
+                .transactedAt(LocalDateTime.now())
+                .build();
+        transactionDTO = TransactionDTO.fromEntity(transaction);
+    }
+
+    @Benchmark
+    public TransactionDTO transactionDtoFromEntity() {
+        return TransactionDTO.fromEntity(transaction);
+    }
+
+    @Benchmark
+    public UseBalance.Response useBalanceResponseFrom() {
+        return UseBalance.Response.from(transactionDTO);
+    }
+}
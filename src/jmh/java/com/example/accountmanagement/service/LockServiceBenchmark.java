@@ -0,0 +1,83 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계좌 락 lock/unlock 왕복 지연 (SampleTime 이라 결과 JSON 에 p50/p99 가 함께 기록된다)
+ * redisson 은 임베디드 Redis 를 상대로 측정하므로 네트워크 왕복은 loopback 기준이다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LockServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LockState {
+        @Param({"redisson", "local"})
+        String lockProvider;
+
+        ConfigurableApplicationContext context;
+        LockService lockService;
+        final AtomicInteger threadIndex = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkApplication.start("--account.lock.provider=" + lockProvider);
+            lockService = context.getBean(LockService.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        String ownAccountNumber;
+
+        @Setup(Level.Trial)
+        public void setUp(LockState state) {
+            ownAccountNumber = String.valueOf(1000000000 + state.threadIndex.getAndIncrement());
+        }
+    }
+
+    /**
+     * 스레드마다 다른 계좌 - 경합 없는 락 비용
+     */
+    @Benchmark
+    public void lockUnlockUncontended(LockState state, ThreadState thread) {
+        state.lockService.lock(thread.ownAccountNumber);
+        state.lockService.unlock(thread.ownAccountNumber);
+    }
+
+    /**
+     * 모든 스레드가 같은 계좌 - 핫 계좌 경합
+     */
+    @Benchmark
+    public void lockUnlockContended(LockState state) {
+        state.lockService.lock("9999999999");
+        state.lockService.unlock("9999999999");
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.accountmanagement.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 번호 생성기 비교 (여러 스레드가 같은 생성기를 공유하는 실제 사용 형태)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TransactionIdGeneratorBenchmark {
+    private final TransactionIdGenerator snowflake = new SnowflakeTransactionIdGenerator(0);
+    private final TransactionIdGenerator uuid = new UuidTransactionIdGenerator();
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.generate();
+    }
+
+    @Benchmark
+    public String uuid() {
+        return uuid.generate();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.BenchmarkApplication;
+import com.example.accountmanagement.dto.AccountDTO;
+import com.example.accountmanagement.dto.TransactionDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 서비스 단건 처리 비용 (계좌 락은 컨트롤러 AOP 에서 잡으므로 포함되지 않는다. 락은 LockServiceBenchmark 참고)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+    private static final Long USER_ID = 1L;
+    private static final Long AMOUNT = 100L;
+    // 측정 중 잔액이 바닥나지 않도록 충분히 크게 잡는다.
+    private static final Long INITIAL_BALANCE = Long.MAX_VALUE / 2;
+
+    @State(Scope.Benchmark)
+    public static class ServiceState {
+        ConfigurableApplicationContext context;
+        TransactionService transactionService;
+        String accountNumber;
+        String transactionId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkApplication.start();
+            transactionService = context.getBean(TransactionService.class);
+            AccountDTO account = context.getBean(AccountService.class)
+                    .createAccount(USER_ID, INITIAL_BALANCE);
+            accountNumber = account.getAccountNumber();
+            transactionId = transactionService.useBalance(USER_ID, accountNumber, AMOUNT)
+                    .getTransactionId();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    /**
+     * 취소는 거래마다 한 번만 가능하므로 호출마다 새 사용 거래를 만들어 둔다.
+     */
+    @State(Scope.Thread)
+    public static class CancelState {
+        String transactionId;
+
+        @Setup(Level.Invocation)
+        public void setUp(ServiceState state) {
+            transactionId = state.transactionService
+                    .useBalance(USER_ID, state.accountNumber, AMOUNT)
+                    .getTransactionId();
+        }
+    }
+
+    @Benchmark
+    public TransactionDTO useBalance(ServiceState state) {
+        return state.transactionService.useBalance(USER_ID, state.accountNumber, AMOUNT);
+    }
+
+    @Benchmark
+    public TransactionDTO cancelBalance(ServiceState state, CancelState cancel) {
+        return state.transactionService.cancelBalance(cancel.transactionId, state.accountNumber, AMOUNT);
+    }
+
+    @Benchmark
+    public TransactionDTO queryTransaction(ServiceState state) {
+        return state.transactionService.queryTransaction(state.transactionId);
+    }
+}
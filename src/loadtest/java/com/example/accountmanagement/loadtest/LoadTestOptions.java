@@ -0,0 +1,135 @@
+package com.example.accountmanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 설정 (--loadtest.이름=값)
+ * loadtest.* 가 아닌 인자는 애플리케이션 인자로 그대로 넘긴다. (--account.lock.provider=local 등)
+ */
+public class LoadTestOptions {
+    private static final String PREFIX = "--loadtest.";
+
+    /** mixed : 사용/취소/조회 (계좌 락 경합), read : 거래 확인/계좌 목록 폴링만 */
+    final String scenario;
+    /** read 시나리오 대상 - mvc : 기존 Tomcat 포트, reactive : 리액티브 조회 API 포트 */
+    final String readTarget;
+    /** 시드할 사용자 수 */
+    final int users;
+    /** 사용자당 계좌 수 (최대 10) */
+    final int accountsPerUser;
+    /** 동시 클라이언트 수 - 쉼표로 여러 단계를 주면 단계별로 측정한다. (예: 200,1000,4000) */
+    final int[] clientSteps;
+    /**
+     * 클라이언트당 목표 요청 수 (초당) - 예정된 전송 시각부터 지연을 재므로 서버가 멈춘 동안 못 보낸 요청도
+     * 지연에 반영된다. (coordinated omission 보정) 0 이면 응답을 받는 즉시 다음 요청을 보내고 서비스 시간만 잰다.
+     */
+    final double ratePerClient;
+    final int warmupSeconds;
+    final int durationSeconds;
+    /**
+     * 요청 하나를 기다리는 최대 시간 - 측정 구간이 끝나도 구간 안에 예정된 요청은 이만큼 더 기다렸다가 기록하고,
+     * 그래도 응답이 없으면 timeout 으로 센다. (가장 느린 요청이 tail 에서 빠지지 않도록)
+     */
+    final int requestTimeoutSeconds;
+    /** 핫 계좌 수 */
+    final int hotAccounts;
+    /** 전체 요청 중 핫 계좌로 가는 비율 (0 ~ 1) */
+    final double hotRatio;
+    /** 사용:취소:조회 가중치 */
+    final int useWeight;
+    final int cancelWeight;
+    final int queryWeight;
+    final long amount;
+    /** 단계 통과 기준 - 전체 p99 (ms) 와 실패율(락 실패 포함) */
+    final double sloP99Ms;
+    final double maxErrorRate;
+    final String reportDir;
+    final String[] applicationArgs;
+
+    private LoadTestOptions(Map<String, String> options, List<String> applicationArgs) {
+        this.scenario = options.getOrDefault("scenario", "mixed");
+        this.readTarget = options.getOrDefault("read-target", "mvc");
+        this.users = Integer.parseInt(options.getOrDefault("users", "50"));
+        this.accountsPerUser = Integer.parseInt(options.getOrDefault("accounts-per-user", "2"));
+        this.clientSteps = Arrays.stream(options.getOrDefault("clients", "32").split(","))
+                .mapToInt(step -> Integer.parseInt(step.trim()))
+                .toArray();
+        this.ratePerClient = Double.parseDouble(options.getOrDefault("rate-per-client", "20"));
+        this.warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "5"));
+        this.durationSeconds = Integer.parseInt(options.getOrDefault("duration-seconds", "30"));
+        this.requestTimeoutSeconds = Integer.parseInt(options.getOrDefault("request-timeout-seconds", "30"));
+        this.hotAccounts = Integer.parseInt(options.getOrDefault("hot-accounts", "1"));
+        this.hotRatio = Double.parseDouble(options.getOrDefault("hot-ratio", "0.2"));
+        this.amount = Long.parseLong(options.getOrDefault("amount", "100"));
+        this.sloP99Ms = Double.parseDouble(options.getOrDefault("slo-p99-ms", "1000"));
+        this.maxErrorRate = Double.parseDouble(options.getOrDefault("max-error-rate", "0.01"));
+        this.reportDir = options.getOrDefault("report-dir",
+                System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        this.applicationArgs = applicationArgs.toArray(String[]::new);
+
+        String[] mix = options.getOrDefault("mix", "60:20:20").split(":");
+        if (mix.length != 3) {
+            throw new IllegalArgumentException("loadtest.mix must be use:cancel:query (e.g. 60:20:20)");
+        }
+        this.useWeight = Integer.parseInt(mix[0]);
+        this.cancelWeight = Integer.parseInt(mix[1]);
+        this.queryWeight = Integer.parseInt(mix[2]);
+
+        if (users < 1 || accountsPerUser < 1 || accountsPerUser > 10
+                || Arrays.stream(clientSteps).anyMatch(clients -> clients < 1)) {
+            throw new IllegalArgumentException(
+                    "loadtest.users / clients must be positive and accounts-per-user between 1 and 10");
+        }
+        if (hotAccounts < 0 || hotAccounts > users * accountsPerUser || hotRatio < 0 || hotRatio > 1) {
+            throw new IllegalArgumentException(
+                    "loadtest.hot-accounts must not exceed the seeded accounts and hot-ratio must be between 0 and 1");
+        }
+        if (requestTimeoutSeconds < 1) {
+            throw new IllegalArgumentException("loadtest.request-timeout-seconds must be positive");
+        }
+        if (ratePerClient < 0) {
+            throw new IllegalArgumentException("loadtest.rate-per-client must not be negative");
+        }
+        if (!scenario.equals("mixed") && !scenario.equals("read")) {
+            throw new IllegalArgumentException("loadtest.scenario must be mixed or read");
+        }
+        if (!readTarget.equals("mvc") && !readTarget.equals("reactive")) {
+            throw new IllegalArgumentException("loadtest.read-target must be mvc or reactive");
+        }
+        if (useWeight < 1 || cancelWeight < 0 || queryWeight < 0) {
+            throw new IllegalArgumentException("loadtest.mix needs a positive use weight");
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(PREFIX) && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(PREFIX.length(), separator), arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+        return new LoadTestOptions(options, applicationArgs);
+    }
+
+    @Override
+    public String toString() {
+        return "scenario=" + scenario + (scenario.equals("read") ? " (" + readTarget + ")" : "")
+                + ", users=" + users + ", accountsPerUser=" + accountsPerUser
+                + ", clients=" + Arrays.toString(clientSteps)
+                + ", ratePerClient=" + (ratePerClient > 0 ? ratePerClient + "/s" : "closed-loop")
+                + ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s"
+                + ", requestTimeout=" + requestTimeoutSeconds + "s"
+                + ", hotAccounts=" + hotAccounts + ", hotRatio=" + hotRatio
+                + ", mix=" + useWeight + ":" + cancelWeight + ":" + queryWeight
+                + ", sloP99=" + sloP99Ms + "ms, maxErrorRate=" + maxErrorRate
+                + ", applicationArgs=" + String.join(" ", applicationArgs);
+    }
+}
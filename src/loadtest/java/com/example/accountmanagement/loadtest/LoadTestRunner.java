@@ -0,0 +1,440 @@
+package com.example.accountmanagement.loadtest;
+
+import com.example.accountmanagement.AccountManagementApplication;
+import com.example.accountmanagement.config.ReactiveReadServer;
+import com.example.accountmanagement.service.AccountService;
+import com.example.accountmanagement.service.TransactionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.example.accountmanagement.loadtest.OperationStats.Outcome.LOCK_FAILURE;
+import static com.example.accountmanagement.loadtest.OperationStats.Outcome.OTHER_FAILURE;
+import static com.example.accountmanagement.loadtest.OperationStats.Outcome.SUCCESS;
+import static com.example.accountmanagement.loadtest.OperationStats.Outcome.TIMEOUT;
+
+/**
+ * 프로세스 내 경합 부하 테스트
+ * 1. 임베디드 Redis / H2 로 애플리케이션을 띄운다. (랜덤 포트)
+ * 2. 사용자와 계좌를 시드한다.
+ * 3. 동시 클라이언트가 /transaction/use, /transaction/cancel, /transaction/{id} 를 가중치대로 호출한다.
+ *    hot-ratio 만큼의 요청은 핫 계좌로 몰아서 계좌 락 경합을 재현한다.
+ *    클라이언트마다 rate-per-client 일정대로 보내고, 지연은 예정된 전송 시각부터 잰다.
+ *    (서버가 멈춰 요청을 못 보낸 시간도 지연에 들어가도록 - coordinated omission 보정)
+ *    클라이언트는 스레드가 아니라 비동기 HttpClient 요청의 연쇄라서, 클라이언트 수가 많아도 부하 발생기가 먼저 막히지 않는다.
+ *    측정 구간에 예정된 요청은 구간이 끝난 뒤에 응답해도 기록하고, request-timeout 안에 응답이 없으면 timeout 으로 센다.
+ * 4. 워밍업 이후 구간의 처리량, p50/p95/p99/max, ACCOUNT_TRANSACTION_LOCK 실패율을 출력하고
+ *    요청 종류별 HDR 히스토그램을 report-dir 에 남긴다.
+ * scenario=read 는 3 대신 거래 확인 / 계좌 목록 GET 폴링만 보내며, read-target 으로 MVC 포트와
+ * 리액티브 조회 API 포트 중 대상을 고른다. (같은 clients 단계로 두 번 실행해 유지 가능한 연결 수를 비교)
+ * clients 를 여러 단계로 주면 단계마다 3, 4 를 반복하고, p99 와 실패율 기준을 지킨 가장 큰 단계를
+ * 최대 지속 가능 동시성으로 출력한다. (플랫폼 스레드 / virtual-threads 프로필 비교용)
+ */
+public class LoadTestRunner {
+    private static final long FIRST_USER_ID = 1001L;
+    // 측정 중 잔액이 바닥나지 않도록 충분히 크게 잡는다.
+    private static final long INITIAL_BALANCE = Long.MAX_VALUE / 4;
+    private static final String LOCK_FAILURE_CODE = "ACCOUNT_TRANSACTION_LOCK";
+
+    private static final Map<String, String> DEFAULT_APPLICATION_ARGS = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_APPLICATION_ARGS.put("server.port", "0");
+        DEFAULT_APPLICATION_ARGS.put("account.reactive.port", "0");
+        DEFAULT_APPLICATION_ARGS.put("spring.jpa.properties.hibernate.show_sql", "false");
+        DEFAULT_APPLICATION_ARGS.put("spring.jpa.properties.hibernate.format_sql", "false");
+        DEFAULT_APPLICATION_ARGS.put("logging.level.root", "WARN");
+        // 락 실패마다 찍히는 에러 로그가 측정을 흐리지 않도록 끈다.
+        DEFAULT_APPLICATION_ARGS.put("logging.level.com.example.accountmanagement", "OFF");
+        DEFAULT_APPLICATION_ARGS.put("account.archive.cron", "-");
+        // read 시나리오에서 MVC 와 리액티브 모두 매번 DB 를 읽게 해 캐시가 아닌 서빙 모델을 비교한다.
+        DEFAULT_APPLICATION_ARGS.put("account.reactive.cache.enabled", "false");
+    }
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 예정 시각에 요청을 보내기만 하므로 코어 수만큼이면 된다. (응답은 HttpClient 의 선택자 스레드가 받는다)
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+            Runtime.getRuntime().availableProcessors(), daemonThreads("loadtest-scheduler"));
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(), daemonThreads("loadtest-http")))
+            .build();
+
+    private String baseUrl;
+    private List<SeededAccount> accounts;
+    private final List<SeededTransaction> transactions = new ArrayList<>();
+
+    LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println("Load test : " + options);
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = SpringApplication.run(
+                AccountManagementApplication.class, applicationArgs(options.applicationArgs))) {
+            new LoadTestRunner(options).run(context);
+            exitCode = 0;
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        }
+        // Redisson / 임베디드 Redis 스레드가 남아 있어도 종료한다.
+        System.exit(exitCode);
+    }
+
+    private static String[] applicationArgs(String[] userArgs) {
+        List<String> args = new ArrayList<>();
+        DEFAULT_APPLICATION_ARGS.forEach((key, value) -> {
+            // 같은 키가 두 번 들어가면 값이 합쳐지므로 사용자가 준 값이 있으면 기본값을 넣지 않는다.
+            if (Arrays.stream(userArgs).noneMatch(arg -> arg.startsWith("--" + key + "="))) {
+                args.add("--" + key + "=" + value);
+            }
+        });
+        args.addAll(Arrays.asList(userArgs));
+        return args.toArray(String[]::new);
+    }
+
+    void run(ConfigurableApplicationContext context) throws Exception {
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        accounts = seed(context);
+        System.out.printf("Seeded %d accounts, %d hot%n", accounts.size(), options.hotAccounts);
+        if (options.scenario.equals("read")) {
+            seedTransactions(context);
+            if (options.readTarget.equals("reactive")) {
+                baseUrl = "http://localhost:" + context.getBean(ReactiveReadServer.class).getPort();
+            }
+            System.out.printf("Seeded %d transactions, reading from %s%n", transactions.size(), baseUrl);
+        }
+
+        List<Step> steps = new ArrayList<>();
+        for (int clients : options.clientSteps) {
+            Step step = new Step(clients);
+            runStep(step);
+            steps.add(step);
+        }
+
+        report(steps);
+    }
+
+    /**
+     * 클라이언트마다 스레드를 두지 않고, 스케줄러가 예정 시각에 비동기 요청을 보낸다.
+     * 응답을 받으면 같은 클라이언트의 다음 요청을 예약하므로 클라이언트당 진행 중인 요청은 하나다.
+     * (클라이언트 수가 많아도 부하 발생기의 스레드가 먼저 바닥나지 않도록)
+     */
+    private void runStep(Step step) throws InterruptedException {
+        System.out.printf("Running %d clients ...%n", step.clients);
+        long now = System.nanoTime();
+        step.measureStartNanos = now + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        step.endNanos = step.measureStartNanos + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+
+        CountDownLatch finished = new CountDownLatch(step.clients);
+        for (int i = 0; i < step.clients; i++) {
+            new Client(step, finished).scheduleNext();
+        }
+        // 측정 구간에 예정된 요청이 모두 응답하거나 timeout 날 때까지 기다린다.
+        if (!finished.await(options.warmupSeconds + options.durationSeconds
+                + options.requestTimeoutSeconds + 60L, TimeUnit.SECONDS)) {
+            System.out.printf("%d clients did not finish%n", finished.getCount());
+        }
+    }
+
+    private List<SeededAccount> seed(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        AccountService accountService = context.getBean(AccountService.class);
+
+        List<SeededAccount> seeded = new ArrayList<>();
+        for (int i = 0; i < options.users; i++) {
+            long userId = FIRST_USER_ID + i;
+            jdbcTemplate.update("insert into account_user(id, name, created_at, updated_at) "
+                    + "values (?, ?, now(), now())", userId, "loadtest-" + userId);
+            jdbcTemplate.update("insert into account_count(account_user_id, account_count) values (?, 0)", userId);
+            for (int j = 0; j < options.accountsPerUser; j++) {
+                seeded.add(new SeededAccount(userId,
+                        accountService.createAccount(userId, INITIAL_BALANCE).getAccountNumber()));
+            }
+        }
+        return seeded;
+    }
+
+    private void seedTransactions(ConfigurableApplicationContext context) {
+        TransactionService transactionService = context.getBean(TransactionService.class);
+        for (SeededAccount account : accounts) {
+            transactions.add(new SeededTransaction(account.userId(), transactionService
+                    .useBalance(account.userId(), account.accountNumber(), options.amount)
+                    .getTransactionId()));
+        }
+    }
+
+    private SeededAccount pickAccount(ThreadLocalRandom random) {
+        if (options.hotAccounts > 0 && random.nextDouble() < options.hotRatio) {
+            return accounts.get(random.nextInt(options.hotAccounts));
+        }
+        return accounts.get(random.nextInt(accounts.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(options.requestTimeoutSeconds))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(options.requestTimeoutSeconds))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private void report(List<Step> steps) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true);
+        double elapsedSeconds = options.durationSeconds;
+        Path dir = Path.of(options.reportDir);
+
+        out.println("Load test : " + options);
+        OperationStats.printHeader(out);
+        Step maxSustainable = null;
+        for (Step step : steps) {
+            for (OperationStats stats : step.operations()) {
+                if (stats.total() == 0) {
+                    continue;
+                }
+                stats.print(out, step.clients, elapsedSeconds);
+                stats.writeDistribution(dir, "clients-" + step.clients + "-");
+            }
+            out.printf("%8d total    ops/s %.1f, p99 %.2f ms, error rate %.2f%% -> %s%n",
+                    step.clients, step.total() / elapsedSeconds, step.p99Millis(), step.errorRate() * 100,
+                    step.isSustainable() ? "OK" : "over SLO");
+            if (step.isSustainable()) {
+                maxSustainable = step;
+            }
+        }
+        out.println(maxSustainable == null
+                ? "No step met p99 <= " + options.sloP99Ms + "ms and error rate <= " + options.maxErrorRate
+                : "Max sustainable concurrency : " + maxSustainable.clients + " clients");
+
+        String summary = buffer.toString();
+        System.out.print(summary);
+
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("summary.txt"), summary);
+        System.out.println("Histograms written to " + dir.toAbsolutePath());
+    }
+
+    /**
+     * 클라이언트 하나 - rate-per-client 일정대로 요청을 하나씩 보낸다.
+     * 응답이 늦어 일정보다 뒤처지면 기다리지 않고 바로 보내되, 예정 시각은 그대로 둔다.
+     * 취소/조회는 이 클라이언트가 성공시킨 사용 거래를 대상으로 한다.
+     * 진행 중인 요청이 하나뿐이므로 상태는 요청 완료 콜백과 스케줄러가 번갈아 접근한다.
+     */
+    private class Client {
+        private final Step step;
+        private final CountDownLatch finished;
+        private final long intervalNanos;
+        private final Deque<UsedTransaction> used = new ArrayDeque<>();
+        private long nextNanos;
+
+        Client(Step step, CountDownLatch finished) {
+            this.step = step;
+            this.finished = finished;
+            this.intervalNanos = options.ratePerClient > 0
+                    ? (long) (TimeUnit.SECONDS.toNanos(1) / options.ratePerClient)
+                    : 0;
+            // 클라이언트들이 같은 순간에 몰리지 않도록 시작 시각을 흩뜨린다.
+            this.nextNanos = System.nanoTime()
+                    + (intervalNanos > 0 ? ThreadLocalRandom.current().nextLong(intervalNanos) : 0);
+        }
+
+        /**
+         * 다음 요청을 예정 시각에 보낸다. (closed-loop 면 지금)
+         * 예정 시각이 측정 구간을 지나면 클라이언트를 끝낸다.
+         */
+        void scheduleNext() {
+            long intendedNanos = intervalNanos > 0 ? nextNanos : System.nanoTime();
+            nextNanos += intervalNanos;
+            if (intendedNanos >= step.endNanos) {
+                finished.countDown();
+                return;
+            }
+            scheduler.schedule(() -> send(intendedNanos),
+                    Math.max(0, intendedNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+
+        private void send(long intendedNanos) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (options.scenario.equals("read")) {
+                // read 시나리오 - 시드된 거래 / 사용자를 번갈아 조회한다.
+                SeededTransaction transaction = transactions.get(random.nextInt(transactions.size()));
+                if (random.nextBoolean()) {
+                    call(step.queryStats, get("/transaction/" + transaction.transactionId()), intendedNanos, null);
+                } else {
+                    call(step.accountsStats, get("/account?user_id=" + transaction.userId()), intendedNanos, null);
+                }
+                return;
+            }
+
+            int pick = random.nextInt(options.useWeight + options.cancelWeight + options.queryWeight);
+            if (pick >= options.useWeight + options.cancelWeight && !used.isEmpty()) {
+                call(step.queryStats, get("/transaction/" + used.peekLast().transactionId()), intendedNanos, null);
+            } else if (pick >= options.useWeight && !used.isEmpty()) {
+                UsedTransaction transaction = used.pollFirst();
+                call(step.cancelStats, post("/transaction/cancel", Map.of(
+                        "transactionId", transaction.transactionId(),
+                        "accountNumber", transaction.accountNumber(),
+                        "amount", options.amount)), intendedNanos, null);
+            } else {
+                SeededAccount account = pickAccount(random);
+                call(step.useStats, post("/transaction/use", Map.of(
+                        "userId", account.userId(),
+                        "accountNumber", account.accountNumber(),
+                        "amount", options.amount)), intendedNanos, body -> {
+                    if (!body.hasNonNull("errorCode")) {
+                        used.addLast(new UsedTransaction(account.accountNumber(), body.path("transactionId").asText()));
+                    }
+                });
+            }
+        }
+
+        /**
+         * 에러도 200 + errorCode 로 내려오므로 본문을 보고 결과를 나눈다.
+         * 지연은 실제 전송 시각이 아니라 예정된 전송 시각(intendedNanos)부터 잰다.
+         * 예정 시각이 측정 구간 안이면 응답이 구간 밖에서 와도 기록한다. (느린 요청일수록 늦게 끝나므로)
+         */
+        private void call(OperationStats stats, HttpRequest request, long intendedNanos, Consumer<JsonNode> onSuccess) {
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        long end = System.nanoTime();
+                        OperationStats.Outcome outcome;
+                        try {
+                            outcome = outcomeOf(response, error, onSuccess);
+                        } catch (IOException e) {
+                            outcome = OTHER_FAILURE;
+                        }
+                        if (intendedNanos >= step.measureStartNanos && intendedNanos < step.endNanos) {
+                            stats.record(end - intendedNanos, outcome);
+                        }
+                        scheduleNext();
+                    });
+        }
+
+        private OperationStats.Outcome outcomeOf(
+                HttpResponse<byte[]> response, Throwable error, Consumer<JsonNode> onSuccess) throws IOException {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                return cause instanceof HttpTimeoutException ? TIMEOUT : OTHER_FAILURE;
+            }
+            if (response.statusCode() != 200) {
+                return OTHER_FAILURE;
+            }
+            JsonNode body = objectMapper.readTree(response.body());
+            if (!body.hasNonNull("errorCode")) {
+                if (onSuccess != null) {
+                    onSuccess.accept(body);
+                }
+                return SUCCESS;
+            }
+            return LOCK_FAILURE_CODE.equals(body.get("errorCode").asText()) ? LOCK_FAILURE : OTHER_FAILURE;
+        }
+    }
+
+    /**
+     * 동시 클라이언트 수 한 단계의 측정 구간과 결과
+     */
+    private class Step {
+        final int clients;
+        final OperationStats useStats = new OperationStats("use");
+        final OperationStats cancelStats = new OperationStats("cancel");
+        final OperationStats queryStats = new OperationStats("query");
+        final OperationStats accountsStats = new OperationStats("accounts");
+        volatile long measureStartNanos;
+        volatile long endNanos;
+
+        Step(int clients) {
+            this.clients = clients;
+        }
+
+        List<OperationStats> operations() {
+            return List.of(useStats, cancelStats, queryStats, accountsStats);
+        }
+
+        long total() {
+            return operations().stream().mapToLong(OperationStats::total).sum();
+        }
+
+        double errorRate() {
+            long total = total();
+            return total == 0 ? 1 : operations().stream().mapToLong(OperationStats::failures).sum() / (double) total;
+        }
+
+        double p99Millis() {
+            Histogram all = new Histogram(3);
+            operations().forEach(stats -> all.add(stats.latency()));
+            return all.getValueAtPercentile(99) / 1_000_000.0;
+        }
+
+        boolean isSustainable() {
+            return total() > 0 && p99Millis() <= options.sloP99Ms && errorRate() <= options.maxErrorRate;
+        }
+    }
+
+    private record SeededAccount(Long userId, String accountNumber) {
+    }
+
+    private record SeededTransaction(Long userId, String transactionId) {
+    }
+
+    private record UsedTransaction(String accountNumber, String transactionId) {
+    }
+}
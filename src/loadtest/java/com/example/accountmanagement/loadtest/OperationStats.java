@@ -0,0 +1,100 @@
+package com.example.accountmanagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 지연 히스토그램과 결과 카운트
+ */
+class OperationStats {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder lockFailure = new LongAdder();
+    private final LongAdder otherFailure = new LongAdder();
+    private final LongAdder timeout = new LongAdder();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    void record(long latencyNanos, Outcome outcome) {
+        latency.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        switch (outcome) {
+            case SUCCESS -> success.increment();
+            case LOCK_FAILURE -> lockFailure.increment();
+            case OTHER_FAILURE -> otherFailure.increment();
+            case TIMEOUT -> timeout.increment();
+        }
+    }
+
+    long total() {
+        return latency.getTotalCount();
+    }
+
+    long failures() {
+        return lockFailure.sum() + otherFailure.sum() + timeout.sum();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    void print(PrintStream out, int clients, double elapsedSeconds) {
+        long total = total();
+        out.printf("%8d %-8s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %8.2f%% %8.2f%% %8.2f%%%n",
+                clients,
+                name,
+                total,
+                total / elapsedSeconds,
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(95)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getMaxValue()),
+                percent(lockFailure.sum(), total),
+                percent(otherFailure.sum(), total),
+                percent(timeout.sum(), total));
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%8s %-8s %10s %10s %9s %9s %9s %9s %9s %9s %9s%n",
+                "clients", "op", "count", "ops/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "lockFail", "otherFail",
+                "timeout");
+    }
+
+    /**
+     * HdrHistogram 백분위 분포 파일 (.hgrm, 밀리초 단위) - HistogramPlotter 로 비교할 수 있다.
+     */
+    void writeDistribution(Path dir, String prefix) throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve(prefix + name + ".hgrm");
+        try (PrintStream out = new PrintStream(new FileOutputStream(file.toFile()))) {
+            latency.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double percent(long count, long total) {
+        return total == 0 ? 0 : count * 100.0 / total;
+    }
+
+    /**
+     * TIMEOUT : 측정 구간에 예정되었지만 request-timeout 안에 응답을 받지 못한 요청
+     */
+    enum Outcome {
+        SUCCESS, LOCK_FAILURE, OTHER_FAILURE, TIMEOUT
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.accountmanagement.aop;
+
+import java.lang.annotation.*;
+
+/**
+ * Idempotency-Key 헤더가 있으면 완료된 응답을 저장해 두고,
+ * 같은 키로 재요청이 오면 락 / DB 를 거치지 않고 저장된 응답을 돌려준다.
+ * CompletableFuture 를 반환하는 메서드에만 사용한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+}
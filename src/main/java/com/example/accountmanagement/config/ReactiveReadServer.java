@@ -0,0 +1,82 @@
+package com.example.accountmanagement.config;
+
+import com.example.accountmanagement.controller.ReactiveReadRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * 리액티브 조회 API 서버
+ * MVC(Tomcat) 쓰기 경로와 분리된 포트에서 Reactor Netty 로 띄운다.
+ * 고정된 소수의 event-loop 스레드가 모든 연결을 처리한다. (폴링 연결이 많아도 스레드는 늘지 않는다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "account.reactive.enabled", havingValue = "true")
+public class ReactiveReadServer {
+    private final ReactiveReadRouter reactiveReadRouter;
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private LoopResources loopResources;
+    private DisposableServer server;
+
+    public ReactiveReadServer(
+            ReactiveReadRouter reactiveReadRouter,
+            ObjectMapper objectMapper,
+            @Value("${account.reactive.port:8081}") int port,
+            @Value("${account.reactive.event-loop-threads:0}") int eventLoopThreads
+    ) {
+        this.reactiveReadRouter = reactiveReadRouter;
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @PostConstruct
+    public void start() {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(reactiveReadRouter.routes(), strategies);
+
+        loopResources = LoopResources.create("account-reactive", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read API started on port {} with {} event-loop threads", server.port(), eventLoopThreads);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+        }
+        if (loopResources != null) {
+            loopResources.disposeLater().block();
+        }
+    }
+
+    public int getPort() {
+        return server.port();
+    }
+}
@@ -4,11 +4,15 @@ import com.example.accountmanagement.domain.Account;
 import com.example.accountmanagement.dto.AccountInfo;
 import com.example.accountmanagement.dto.CreateAccount;
 import com.example.accountmanagement.dto.DeleteAccount;
+import com.example.accountmanagement.dto.Statement;
 import com.example.accountmanagement.service.AccountService;
+import com.example.accountmanagement.service.DailyBalanceSnapshotService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,6 +20,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountController {
     private final AccountService accountService;
+    private final DailyBalanceSnapshotService dailyBalanceSnapshotService;
 
     @PostMapping("/account")
     public CreateAccount.Response createAccount(
@@ -61,4 +66,16 @@ public class AccountController {
             @PathVariable Long id) {
         return accountService.getAccount(id);
     }
+
+    /**
+     * from, to 는 모두 포함 (yyyy-MM-dd)
+     */
+    @GetMapping("/account/{accountNumber}/statement")
+    public Statement.Response getStatement(
+            @PathVariable String accountNumber,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return dailyBalanceSnapshotService.getStatement(accountNumber, from, to);
+    }
 }
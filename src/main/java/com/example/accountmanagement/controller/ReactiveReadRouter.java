@@ -0,0 +1,78 @@
+package com.example.accountmanagement.controller;
+
+import com.example.accountmanagement.dto.ErrorResponse;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.service.ErrorCodeMetrics;
+import com.example.accountmanagement.service.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import static com.example.accountmanagement.type.ErrorCode.INTERNAL_SERVER_ERROR;
+import static com.example.accountmanagement.type.ErrorCode.INVALID_REQUEST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * 리액티브 조회 API (별도 포트, account.reactive.port)
+ * 1. 거래 확인 - GET /transaction/{transactionId}
+ * 2. 사용자 계좌 목록 - GET /account?user_id=
+ * 응답과 에러 형식은 MVC 컨트롤러와 같다. (에러도 200 + ErrorResponse)
+ * 단, Redis 캐시를 거치므로 계좌 목록의 잔액은 최대 account.reactive.cache.accounts-ttl-ms(기본 1초) 늦을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.reactive.enabled", havingValue = "true")
+public class ReactiveReadRouter {
+    private final ReactiveReadService reactiveReadService;
+    private final ErrorCodeMetrics errorCodeMetrics;
+
+    public RouterFunction<ServerResponse> routes() {
+        return route(GET("/transaction/{transactionId}"), this::queryTransaction)
+                .andRoute(GET("/account"), this::getAccountsByUserId);
+    }
+
+    private Mono<ServerResponse> queryTransaction(ServerRequest request) {
+        return ok(reactiveReadService.queryTransaction(request.pathVariable("transactionId")));
+    }
+
+    private Mono<ServerResponse> getAccountsByUserId(ServerRequest request) {
+        Long userId;
+        try {
+            userId = request.queryParam("user_id").map(Long::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            userId = null;
+        }
+        if (userId == null) {
+            return error(new AccountException(INVALID_REQUEST));
+        }
+        return ok(reactiveReadService.getAccountsByUserId(userId));
+    }
+
+    private Mono<ServerResponse> ok(Mono<?> body) {
+        return body
+                .flatMap(value -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(value))
+                .onErrorResume(this::error);
+    }
+
+    private Mono<ServerResponse> error(Throwable e) {
+        ErrorResponse response;
+        if (e instanceof AccountException accountException) {
+            log.error("{} is occurred.", accountException.getErrorCode());
+            errorCodeMetrics.increment(accountException.getErrorCode());
+            response = new ErrorResponse(accountException.getErrorCode(), accountException.getErrorMessage());
+        } else {
+            log.error("Exception is occurred.", e);
+            errorCodeMetrics.increment(INTERNAL_SERVER_ERROR);
+            response = new ErrorResponse(INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR.getDescription());
+        }
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(response);
+    }
+}
@@ -1,71 +1,106 @@
 package com.example.accountmanagement.controller;
 
 import com.example.accountmanagement.aop.AccountLock;
+import com.example.accountmanagement.aop.Idempotent;
 import com.example.accountmanagement.dto.CancelBalance;
 import com.example.accountmanagement.dto.QueryTransactionResponse;
+import com.example.accountmanagement.dto.TransactionHistory;
 import com.example.accountmanagement.dto.UseBalance;
+import com.example.accountmanagement.dto.UseBalanceBatch;
 import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.service.AccountTaskExecutor;
+import com.example.accountmanagement.service.TransactionExportService;
 import com.example.accountmanagement.service.TransactionService;
+import com.example.accountmanagement.service.UseBalanceBatchService;
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 잔액 관련 컨트롤러
  * 1. 잔액 사용
- * 2. 잔액 사용 취소
- * 3. 거래 확인
+ * 2. 잔액 일괄 사용
+ * 3. 잔액 사용 취소
+ * 4. 거래 확인
+ * 5. 계좌별 거래 내역
+ * 6. 거래 원장 내보내기 (NDJSON)
  */
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class TransactionController {
     private final TransactionService transactionService;
+    private final AccountTaskExecutor accountTaskExecutor;
+    private final UseBalanceBatchService useBalanceBatchService;
+    private final TransactionExportService transactionExportService;
 
     @PostMapping("/transaction/use")
+    @Idempotent
     @AccountLock
-    public UseBalance.Response useBalance(
+    public CompletableFuture<UseBalance.Response> useBalance(
         @Valid @RequestBody UseBalance.Request request
-    ) throws InterruptedException {
-        try {
-            Thread.sleep(3000L);
-            return UseBalance.Response.from(
-                    transactionService.useBalance(request.getUserId(),
-                            request.getAccountNumber(), request.getAmount())
-            );
-        } catch (AccountException e) {
-            log.error("Failed to use balance");
+    ) {
+        return accountTaskExecutor.execute(request.getAccountNumber(), () -> {
+            try {
+                return UseBalance.Response.from(
+                        transactionService.useBalance(request.getUserId(),
+                                request.getAccountNumber(), request.getAmount())
+                );
+            } catch (AccountException e) {
+                log.error("Failed to use balance");
 
-            transactionService.saveFailedUseTransaction(
-                    request.getAccountNumber(),
-                    request.getAmount()
-            );
+                transactionService.saveFailedUseTransaction(
+                        request.getAccountNumber(),
+                        request.getAmount()
+                );
 
-            throw e;
-        }
+                throw e;
+            }
+        });
+    }
+
+    @PostMapping("/transaction/use/batch")
+    public CompletableFuture<UseBalanceBatch.Response> useBalanceBatch(
+            @Valid @RequestBody UseBalanceBatch.Request request
+    ) {
+        return useBalanceBatchService.useBalance(request.getItems())
+                .thenApply(UseBalanceBatch.Response::from);
     }
 
     @PostMapping("/transaction/cancel")
+    @Idempotent
     @AccountLock
-    public CancelBalance.Response cancelBalance(
+    public CompletableFuture<CancelBalance.Response> cancelBalance(
             @Valid @RequestBody CancelBalance.Request request
     ) {
-        try {
-            return CancelBalance.Response.from(
-                    transactionService.cancelBalance(request.getTransactionId(),
-                            request.getAccountNumber(), request.getAmount())
-            );
-        } catch (AccountException e) {
-            log.error("Failed to use balance");
+        return accountTaskExecutor.execute(request.getAccountNumber(), () -> {
+            try {
+                return CancelBalance.Response.from(
+                        transactionService.cancelBalance(request.getTransactionId(),
+                                request.getAccountNumber(), request.getAmount())
+                );
+            } catch (AccountException e) {
+                log.error("Failed to use balance");
 
-            transactionService.saveFailedCancelTransaction(
-                    request.getAccountNumber(),
-                    request.getAmount()
-            );
+                transactionService.saveFailedCancelTransaction(
+                        request.getAccountNumber(),
+                        request.getAmount()
+                );
 
-            throw e;
-        }
+                throw e;
+            }
+        });
     }
 
     @GetMapping("/transaction/{transactionId}")
@@ -77,4 +112,53 @@ public class TransactionController {
                 )
         );
     }
+
+    @GetMapping("/account/{accountNumber}/transactions")
+    public TransactionHistory.Response getTransactionHistory(
+            @PathVariable String accountNumber,
+            @RequestParam(value = "transaction_type", required = false) TransactionType transactionType,
+            @RequestParam(value = "transaction_result", required = false) TransactionResultType transactionResult,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return TransactionHistory.Response.from(
+                transactionService.getTransactionHistory(accountNumber,
+                        TransactionHistory.Condition.builder()
+                                .transactionType(transactionType)
+                                .transactionResultType(transactionResult)
+                                .from(from)
+                                .to(to)
+                                .cursor(cursor)
+                                .size(size)
+                                .build())
+        );
+    }
+
+    /**
+     * 계좌 또는 기간 조건 중 하나는 있어야 한다.
+     * 응답 스트림에 직접 쓰므로 요청 스레드가 내보내기가 끝날 때까지 사용된다.
+     */
+    @GetMapping("/transaction/export")
+    public void exportTransactions(
+            @RequestParam(value = "account_number", required = false) String accountNumber,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        TransactionExportService.ExportQuery query =
+                transactionExportService.prepare(accountNumber, from, to);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        transactionExportService.export(query, response.getOutputStream(), gzip);
+    }
 }
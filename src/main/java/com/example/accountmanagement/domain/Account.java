@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 public class Account extends BaseEntity {
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private AccountUser accountUser;
     private String accountNumber;
 
@@ -27,7 +27,13 @@ public class Account extends BaseEntity {
     private LocalDateTime registeredAt;
     private LocalDateTime unRegisteredAt;
 
+    @Version
+    private Long version;
+
     public void useBalance(Long amount) {
+        if(amount < 0) {
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        }
         if(amount > balance) {
             throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
         }
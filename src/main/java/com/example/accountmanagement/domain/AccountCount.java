@@ -0,0 +1,27 @@
+package com.example.accountmanagement.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+/**
+ * 사용자별 보유 계좌 수
+ * 생성/해지 때마다 조건부 bulk update 로 바뀌므로, 2차 캐시에 올린 AccountUser 와 테이블을 나눈다.
+ * (bulk update 는 대상 테이블에 매핑된 엔티티의 캐시 region 전체를 비운다)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+public class AccountCount {
+    // AccountUser 의 id
+    @Id
+    private Long accountUserId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer accountCount = 0;
+}
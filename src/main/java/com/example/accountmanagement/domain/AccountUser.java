@@ -3,6 +3,8 @@ package com.example.accountmanagement.domain;
 import jakarta.persistence.Entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -10,6 +12,7 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class AccountUser extends BaseEntity {
     private String name;
 }
@@ -0,0 +1,30 @@
+package com.example.accountmanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 계좌별 일별 잔액 스냅샷
+ * 성공 거래가 저장될 때 같은 DB 트랜잭션에서 누적된다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_balance_snapshot_account_date", columnNames = {"account_id", "snapshot_date"})
+})
+public class DailyBalanceSnapshot extends BaseEntity {
+    private Long accountId;
+    private LocalDate snapshotDate;
+
+    private Long openingBalance;
+    private Long debitAmount;
+    private Long creditAmount;
+    private Long closingBalance;
+    private Long transactionCount;
+}
@@ -13,6 +13,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        // 계좌별 거래 내역 keyset 조회 (account_id = ? order by transacted_at desc, id desc)
+        @Index(name = "idx_transaction_account_transacted_at", columnList = "account_id, transacted_at, id"),
+        @Index(name = "idx_transaction_transaction_id", columnList = "transaction_id"),
+        // 보관 기간이 지난 거래 선택 (TransactionArchiver)
+        @Index(name = "idx_transaction_transacted_at", columnList = "transacted_at")
+})
 public class Transaction extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
@@ -20,7 +27,7 @@ public class Transaction extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private TransactionResultType transactionResultType;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Account account;
     private Long amount;
     private Long balanceSnapshot;
@@ -0,0 +1,41 @@
+package com.example.accountmanagement.domain;
+
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 취소 가능 기간이 지나 transaction 테이블에서 옮겨진 거래 (cold ledger)
+ * id 는 원래 transaction 의 id 를 그대로 쓰고, 조회 시 조인이 필요 없도록 계좌 번호를 함께 보관한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_transaction_archive_transaction_id", columnList = "transaction_id"),
+        @Index(name = "idx_transaction_archive_account_transacted_at", columnList = "account_id, transacted_at, id")
+})
+public class TransactionArchive {
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+    @Enumerated(EnumType.STRING)
+    private TransactionResultType transactionResultType;
+
+    private Long accountId;
+    private String accountNumber;
+    private Long amount;
+    private Long balanceSnapshot;
+
+    private String transactionId;
+    private LocalDateTime transactedAt;
+    private LocalDateTime archivedAt;
+}
@@ -28,4 +28,14 @@ public class AccountDTO {
                 .unRegisteredAt(account.getUnRegisteredAt())
                 .build();
     }
+
+    public static AccountDTO fromSummary(Long userId, AccountSummary summary) {
+        return AccountDTO.builder()
+                .userId(userId)
+                .accountNumber(summary.accountNumber())
+                .balance(summary.balance())
+                .registeredAt(summary.registeredAt())
+                .unRegisteredAt(summary.unRegisteredAt())
+                .build();
+    }
 }
@@ -0,0 +1,26 @@
+package com.example.accountmanagement.dto;
+
+import com.example.accountmanagement.domain.Account;
+import com.example.accountmanagement.type.AccountStatus;
+import lombok.*;
+
+/**
+ * 거래 검증에 쓰는 계좌의 변하지 않는(또는 드물게 변하는) 정보
+ * 잔액은 포함하지 않는다. 잔액은 항상 DB 값이 기준이다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class AccountMetadata {
+    private Long id;
+    private Long ownerId;
+    private AccountStatus accountStatus;
+
+    public static AccountMetadata from(Account account) {
+        return AccountMetadata.builder()
+                .id(account.getId())
+                .ownerId(account.getAccountUser().getId())
+                .accountStatus(account.getAccountStatus())
+                .build();
+    }
+}
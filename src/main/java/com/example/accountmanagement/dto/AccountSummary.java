@@ -0,0 +1,14 @@
+package com.example.accountmanagement.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 목록 조회용 projection - 필요한 컬럼만 읽고 연관 엔티티는 읽지 않는다.
+ */
+public record AccountSummary(
+        String accountNumber,
+        Long balance,
+        LocalDateTime registeredAt,
+        LocalDateTime unRegisteredAt
+) {
+}
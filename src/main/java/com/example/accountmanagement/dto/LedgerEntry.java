@@ -0,0 +1,23 @@
+package com.example.accountmanagement.dto;
+
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * LedgerWriter 로 넘기는 거래 원장 한 건
+ * 계좌 id 와 잔액 스냅샷은 INSERT 시점에 계좌 번호로 채워진다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class LedgerEntry {
+    private String accountNumber;
+    private TransactionType transactionType;
+    private TransactionResultType transactionResultType;
+    private Long amount;
+    private String transactionId;
+    private LocalDateTime transactedAt;
+}
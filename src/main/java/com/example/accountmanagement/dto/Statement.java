@@ -0,0 +1,55 @@
+package com.example.accountmanagement.dto;
+
+import com.example.accountmanagement.domain.DailyBalanceSnapshot;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간별 거래 명세 - 일별 스냅샷만으로 만든다.
+ */
+public class Statement {
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private String accountNumber;
+        private LocalDate from;
+        private LocalDate to;
+        private Long openingBalance;
+        private Long closingBalance;
+        private Long debitAmount;
+        private Long creditAmount;
+        private Long transactionCount;
+        // 거래가 있었던 날만 포함
+        private List<Day> days;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Day {
+        private LocalDate date;
+        private Long openingBalance;
+        private Long debitAmount;
+        private Long creditAmount;
+        private Long closingBalance;
+        private Long transactionCount;
+
+        public static Day from(DailyBalanceSnapshot snapshot) {
+            return Day.builder()
+                    .date(snapshot.getSnapshotDate())
+                    .openingBalance(snapshot.getOpeningBalance())
+                    .debitAmount(snapshot.getDebitAmount())
+                    .creditAmount(snapshot.getCreditAmount())
+                    .closingBalance(snapshot.getClosingBalance())
+                    .transactionCount(snapshot.getTransactionCount())
+                    .build();
+        }
+    }
+}
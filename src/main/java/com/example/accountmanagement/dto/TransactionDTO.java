@@ -2,8 +2,11 @@ package com.example.accountmanagement.dto;
 
 import com.example.accountmanagement.domain.Account;
 import com.example.accountmanagement.domain.Transaction;
+import com.example.accountmanagement.domain.TransactionArchive;
+import com.example.accountmanagement.type.ErrorCode;
 import com.example.accountmanagement.type.TransactionResultType;
 import com.example.accountmanagement.type.TransactionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -23,9 +26,20 @@ public class TransactionDTO {
     private String transactionId;
     private LocalDateTime transactedAt;
 
+    // 실패 거래일 때만 채워진다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ErrorCode errorCode;
+
     public static TransactionDTO fromEntity(Transaction transaction) {
+        return fromEntity(transaction, transaction.getAccount().getAccountNumber());
+    }
+
+    /**
+     * 계좌번호를 이미 알고 있으면 계좌(지연 로딩 프록시)를 초기화하지 않는다.
+     */
+    public static TransactionDTO fromEntity(Transaction transaction, String accountNumber) {
         return TransactionDTO.builder()
-                .accountNumber(transaction.getAccount().getAccountNumber())
+                .accountNumber(accountNumber)
                 .transactionType(transaction.getTransactionType())
                 .transactionResultType(transaction.getTransactionResultType())
                 .amount(transaction.getAmount())
@@ -34,4 +48,16 @@ public class TransactionDTO {
                 .transactedAt(transaction.getTransactedAt())
                 .build();
     }
+
+    public static TransactionDTO fromArchive(TransactionArchive archive) {
+        return TransactionDTO.builder()
+                .accountNumber(archive.getAccountNumber())
+                .transactionType(archive.getTransactionType())
+                .transactionResultType(archive.getTransactionResultType())
+                .amount(archive.getAmount())
+                .balanceSnapshot(archive.getBalanceSnapshot())
+                .transactionId(archive.getTransactionId())
+                .transactedAt(archive.getTransactedAt())
+                .build();
+    }
 }
@@ -0,0 +1,96 @@
+package com.example.accountmanagement.dto;
+
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static com.example.accountmanagement.type.ErrorCode.INVALID_REQUEST;
+
+/**
+ * 계좌별 거래 내역 (최신순, keyset 페이지네이션)
+ * 다음 페이지는 마지막 행의 (transactedAt, id) 를 cursor 로 넘겨 이어서 조회한다.
+ */
+public class TransactionHistory {
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Condition {
+        private TransactionType transactionType;
+        private TransactionResultType transactionResultType;
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private String cursor;
+        private int size;
+    }
+
+    /**
+     * 다음 페이지 시작 위치 - 클라이언트에는 불투명한 문자열로 내려준다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+        // 첫 페이지는 가장 큰 키 바로 앞에서 시작한다.
+        public static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        private static final String SEPARATOR = "_";
+
+        private LocalDateTime transactedAt;
+        private Long id;
+
+        public String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((transactedAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return FIRST;
+            }
+
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                        .split(SEPARATOR);
+                return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new AccountException(INVALID_REQUEST);
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private List<TransactionDTO> transactions;
+        // 마지막 페이지면 null
+        private String nextCursor;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private List<QueryTransactionResponse> transactions;
+        private String nextCursor;
+        private boolean hasNext;
+
+        public static Response from(Result result) {
+            return Response.builder()
+                    .transactions(result.getTransactions().stream()
+                            .map(QueryTransactionResponse::from)
+                            .toList())
+                    .nextCursor(result.getNextCursor())
+                    .hasNext(result.getNextCursor() != null)
+                    .build();
+        }
+    }
+}
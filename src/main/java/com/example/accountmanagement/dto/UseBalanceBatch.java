@@ -0,0 +1,84 @@
+package com.example.accountmanagement.dto;
+
+import com.example.accountmanagement.aop.AccountLockIdInterface;
+import com.example.accountmanagement.type.ErrorCode;
+import com.example.accountmanagement.type.TransactionResultType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class UseBalanceBatch {
+    /**
+     * {
+     *  items: [
+     *    { userId: 1, accountNumber: "1000000000", amount: 1000 },
+     *    { userId: 1, accountNumber: "1000000001", amount: 2000 }
+     *  ]
+     * }
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @NotEmpty
+        @Size(max = 1000)
+        private List<@Valid UseBalance.Request> items;
+    }
+
+    /**
+     * 한 계좌에 대한 요청 묶음 - 계좌 락은 묶음 단위로 한 번만 잡는다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AccountGroup implements AccountLockIdInterface {
+        private String accountNumber;
+        private List<UseBalance.Request> items;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private List<Item> results;
+
+        public static Response from(List<TransactionDTO> transactionDTOs) {
+            return Response.builder()
+                    .results(transactionDTOs.stream()
+                            .map(Item::from)
+                            .toList())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private String accountNumber;
+        private TransactionResultType transactionResult;
+        private String transactionId;
+        private Long amount;
+        private LocalDateTime transactedAt;
+        private ErrorCode errorCode;
+
+        public static Item from(TransactionDTO transactionDTO) {
+            return Item.builder()
+                    .accountNumber(transactionDTO.getAccountNumber())
+                    .transactionResult(transactionDTO.getTransactionResultType())
+                    .transactionId(transactionDTO.getTransactionId())
+                    .amount(transactionDTO.getAmount())
+                    .transactedAt(transactionDTO.getTransactedAt())
+                    .errorCode(transactionDTO.getErrorCode())
+                    .build();
+        }
+    }
+}
@@ -1,22 +1,29 @@
 package com.example.accountmanagement.exception;
 
 import com.example.accountmanagement.dto.ErrorResponse;
+import com.example.accountmanagement.service.ErrorCodeMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
 import static com.example.accountmanagement.type.ErrorCode.INTERNAL_SERVER_ERROR;
 import static com.example.accountmanagement.type.ErrorCode.INVALID_REQUEST;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final ErrorCodeMetrics errorCodeMetrics;
 
     @ExceptionHandler(AccountException.class)
     public ErrorResponse handleAccountException(AccountException e) {
         log.error("{} is occurred.", e.getErrorCode());
+        errorCodeMetrics.increment(e.getErrorCode());
 
         return new ErrorResponse(e.getErrorCode(), e.getErrorMessage());
     }
@@ -24,6 +31,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ErrorResponse handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
         log.error("MethodArgumentNotValidException is occurred.", e);
+        errorCodeMetrics.increment(INVALID_REQUEST);
 
         return new ErrorResponse(INVALID_REQUEST, INVALID_REQUEST.getDescription());
     }
@@ -31,15 +39,27 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ErrorResponse handleDataIntegrityViolationException(DataIntegrityViolationException e) {
         log.error("DataIntegrityViolationException is occurred.", e);
+        errorCodeMetrics.increment(INVALID_REQUEST);
         return new ErrorResponse(
                 INVALID_REQUEST,
                 INVALID_REQUEST.getDescription()
         );
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ErrorResponse handleObjectOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        log.error("ObjectOptimisticLockingFailureException is occurred.", e);
+        errorCodeMetrics.increment(ACCOUNT_TRANSACTION_LOCK);
+        return new ErrorResponse(
+                ACCOUNT_TRANSACTION_LOCK,
+                ACCOUNT_TRANSACTION_LOCK.getDescription()
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     public ErrorResponse handleexception(Exception e) {
         log.error("Exception is occurred.", e);
+        errorCodeMetrics.increment(INTERNAL_SERVER_ERROR);
         return new ErrorResponse(
                 INTERNAL_SERVER_ERROR,
                 INTERNAL_SERVER_ERROR.getDescription()
@@ -0,0 +1,21 @@
+package com.example.accountmanagement.repository;
+
+import com.example.accountmanagement.domain.AccountCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountCountRepository extends JpaRepository<AccountCount, Long> {
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountCount c set c.accountCount = c.accountCount + 1 " +
+            "where c.accountUserId = :accountUserId and c.accountCount < :maxAccountCount")
+    int increaseAccountCount(@Param("accountUserId") Long accountUserId, @Param("maxAccountCount") int maxAccountCount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountCount c set c.accountCount = c.accountCount - 1 " +
+            "where c.accountUserId = :accountUserId and c.accountCount > 0")
+    int decreaseAccountCount(@Param("accountUserId") Long accountUserId);
+}
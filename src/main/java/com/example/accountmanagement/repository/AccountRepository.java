@@ -1,8 +1,13 @@
 package com.example.accountmanagement.repository;
 
 import com.example.accountmanagement.domain.Account;
-import com.example.accountmanagement.domain.AccountUser;
+import com.example.accountmanagement.dto.AccountMetadata;
+import com.example.accountmanagement.dto.AccountSummary;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,11 +15,32 @@ import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
-    Optional<Account> findFirstByOrderByIdDesc();
+    Optional<Account> findByAccountNumber(String accountNumber);
 
-    Integer countByAccountUser(AccountUser accountUser);
+    @Query("select new com.example.accountmanagement.dto.AccountMetadata(a.id, a.accountUser.id, a.accountStatus) " +
+            "from Account a where a.accountNumber = :accountNumber")
+    Optional<AccountMetadata> findMetadataByAccountNumber(@Param("accountNumber") String accountNumber);
 
-    Optional<Account> findByAccountNumber(String accountNumber);
+    List<AccountSummary> findByAccountUser_Id(Long userId);
+
+    @EntityGraph(attributePaths = "accountUser")
+    Optional<Account> findWithAccountUserById(Long id);
+
+    /**
+     * 잔액 부족 / 해지 계좌면 갱신된 행이 없어 0 을 반환한다.
+     * 영속성 컨텍스트의 Account 는 비우지 않는다. (스칼라 조회로 잔액을 다시 읽는다)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Account a set a.balance = a.balance - :amount, a.version = a.version + 1 " +
+            "where a.accountNumber = :accountNumber and a.balance >= :amount " +
+            "and a.accountStatus = com.example.accountmanagement.type.AccountStatus.IN_USE")
+    int decreaseBalance(@Param("accountNumber") String accountNumber, @Param("amount") Long amount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Account a set a.balance = a.balance + :amount, a.version = a.version + 1 " +
+            "where a.accountNumber = :accountNumber")
+    int increaseBalance(@Param("accountNumber") String accountNumber, @Param("amount") Long amount);
 
-    List<Account> findByAccountUser(AccountUser accountUser);
+    @Query("select a.balance from Account a where a.accountNumber = :accountNumber")
+    Optional<Long> findBalanceByAccountNumber(@Param("accountNumber") String accountNumber);
 }
@@ -0,0 +1,38 @@
+package com.example.accountmanagement.repository;
+
+import com.example.accountmanagement.domain.DailyBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyBalanceSnapshotRepository extends JpaRepository<DailyBalanceSnapshot, Long> {
+    // 같은 트랜잭션의 Account 엔티티가 계속 쓰이므로 영속성 컨텍스트는 비우지 않는다.
+    @Modifying(flushAutomatically = true)
+    @Query("update DailyBalanceSnapshot s set s.debitAmount = s.debitAmount + :debitAmount, " +
+            "s.creditAmount = s.creditAmount + :creditAmount, " +
+            "s.closingBalance = :closingBalance, s.transactionCount = s.transactionCount + 1 " +
+            "where s.accountId = :accountId and s.snapshotDate = :snapshotDate")
+    int accumulate(
+            @Param("accountId") Long accountId,
+            @Param("snapshotDate") LocalDate snapshotDate,
+            @Param("debitAmount") Long debitAmount,
+            @Param("creditAmount") Long creditAmount,
+            @Param("closingBalance") Long closingBalance
+    );
+
+    List<DailyBalanceSnapshot> findByAccountIdAndSnapshotDateBetweenOrderBySnapshotDate(
+            Long accountId, LocalDate from, LocalDate to);
+
+    Optional<DailyBalanceSnapshot> findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(
+            Long accountId, LocalDate snapshotDate);
+
+    Optional<DailyBalanceSnapshot> findFirstByAccountIdAndSnapshotDateGreaterThanOrderBySnapshotDate(
+            Long accountId, LocalDate snapshotDate);
+}
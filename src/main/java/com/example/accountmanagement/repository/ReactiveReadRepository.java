@@ -0,0 +1,110 @@
+package com.example.accountmanagement.repository;
+
+import com.example.accountmanagement.dto.AccountInfo;
+import com.example.accountmanagement.dto.QueryTransactionResponse;
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 리액티브 조회 API 전용 R2DBC 조회
+ * ConnectionFactory 를 빈으로 등록하면 JDBC DataSource 자동 설정이 꺼지므로 풀은 이 클래스 안에만 둔다.
+ */
+@Repository
+@ConditionalOnProperty(name = "account.reactive.enabled", havingValue = "true")
+public class ReactiveReadRepository {
+    private static final String TRANSACTION_SQL =
+            "select a.account_number, t.transaction_type, t.transaction_result_type, t.transaction_id, " +
+            "t.amount, t.transacted_at " +
+            "from transaction t join account a on a.id = t.account_id where t.transaction_id = :transactionId";
+    private static final String ARCHIVED_TRANSACTION_SQL =
+            "select account_number, transaction_type, transaction_result_type, transaction_id, amount, transacted_at " +
+            "from transaction_archive where transaction_id = :transactionId";
+    // 사용자가 없으면 0 행, 계좌가 없는 사용자는 account_number 가 null 인 1 행
+    private static final String ACCOUNTS_SQL =
+            "select a.account_number, a.balance from account_user u " +
+            "left join account a on a.account_user_id = u.id where u.id = :userId order by a.id";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(
+            @Value("${account.reactive.r2dbc.url}") String url,
+            @Value("${account.reactive.r2dbc.username:}") String username,
+            @Value("${account.reactive.r2dbc.password:}") String password,
+            @Value("${account.reactive.r2dbc.pool-size:10}") int poolSize
+    ) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                        .initialSize(Math.min(2, poolSize))
+                        .maxSize(poolSize)
+                        .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    /**
+     * 보관 기간이 지나 옮겨진 거래는 transaction_archive 에서 찾는다.
+     */
+    public Mono<QueryTransactionResponse> findTransaction(String transactionId) {
+        return findTransaction(TRANSACTION_SQL, transactionId)
+                .switchIfEmpty(Mono.defer(() -> findTransaction(ARCHIVED_TRANSACTION_SQL, transactionId)));
+    }
+
+    /**
+     * 사용자가 없으면 빈 Mono, 계좌가 없는 사용자는 빈 목록
+     */
+    public Mono<List<AccountInfo>> findAccountsByUserId(Long userId) {
+        return databaseClient.sql(ACCOUNTS_SQL)
+                .bind("userId", userId)
+                .map(row -> AccountInfo.builder()
+                        .accountNumber(row.get("account_number", String.class))
+                        .balance(row.get("balance", Long.class))
+                        .build())
+                .all()
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .map(rows -> rows.stream()
+                        .filter(account -> account.getAccountNumber() != null)
+                        .toList());
+    }
+
+    private Mono<QueryTransactionResponse> findTransaction(String sql, String transactionId) {
+        return databaseClient.sql(sql)
+                .bind("transactionId", transactionId)
+                .map(ReactiveReadRepository::toTransactionResponse)
+                .first();
+    }
+
+    private static QueryTransactionResponse toTransactionResponse(Readable row) {
+        return QueryTransactionResponse.builder()
+                .accountNumber(row.get("account_number", String.class))
+                .transactionType(TransactionType.valueOf(row.get("transaction_type", String.class)))
+                .transactionResult(TransactionResultType.valueOf(row.get("transaction_result_type", String.class)))
+                .transactionId(row.get("transaction_id", String.class))
+                .amount(row.get("amount", Long.class))
+                .transactedAt(row.get("transacted_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.accountmanagement.repository;
+
+import com.example.accountmanagement.domain.TransactionArchive;
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransactionArchiveRepository extends JpaRepository<TransactionArchive, Long> {
+
+    Optional<TransactionArchive> findByTransactionId(String transactionId);
+
+    boolean existsByTransactionId(String transactionId);
+
+    /**
+     * TransactionRepository.findHistory 와 같은 조건 / 순서로 보관 거래를 조회한다.
+     * 보관 거래는 원래 id 를 그대로 쓰므로 같은 cursor 로 이어서 읽을 수 있다.
+     */
+    @Query("select t from TransactionArchive t " +
+            "where t.accountId = :accountId " +
+            "and t.transactedAt <= :cursorTransactedAt " +
+            "and (t.transactedAt < :cursorTransactedAt or t.id < :cursorId) " +
+            "and (:transactionType is null or t.transactionType = :transactionType) " +
+            "and (:transactionResultType is null or t.transactionResultType = :transactionResultType) " +
+            "and (:from is null or t.transactedAt >= :from) " +
+            "and (:to is null or t.transactedAt < :to) " +
+            "order by t.transactedAt desc, t.id desc")
+    List<TransactionArchive> findHistory(
+            @Param("accountId") Long accountId,
+            @Param("cursorTransactedAt") LocalDateTime cursorTransactedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("transactionType") TransactionType transactionType,
+            @Param("transactionResultType") TransactionResultType transactionResultType,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Limit limit
+    );
+}
@@ -1,13 +1,49 @@
 package com.example.accountmanagement.repository;
 
 import com.example.accountmanagement.domain.Transaction;
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
     Optional<Transaction> findByTransactionId(String transactionId);
+
+    @EntityGraph(attributePaths = "account")
+    Optional<Transaction> findWithAccountByTransactionId(String transactionId);
+
+    /**
+     * (transactedAt, id) 가 cursor 보다 작은 거래를 최신순으로 조회한다.
+     * cursor 조건이 (account_id, transacted_at, id) 인덱스의 범위 조건이 되므로
+     * 몇 번째 페이지든 비용이 같다.
+     */
+    @Query("select t from Transaction t join fetch t.account " +
+            "where t.account.id = :accountId " +
+            "and t.transactedAt <= :cursorTransactedAt " +
+            "and (t.transactedAt < :cursorTransactedAt or t.id < :cursorId) " +
+            "and (:transactionType is null or t.transactionType = :transactionType) " +
+            "and (:transactionResultType is null or t.transactionResultType = :transactionResultType) " +
+            "and (:from is null or t.transactedAt >= :from) " +
+            "and (:to is null or t.transactedAt < :to) " +
+            "order by t.transactedAt desc, t.id desc")
+    List<Transaction> findHistory(
+            @Param("accountId") Long accountId,
+            @Param("cursorTransactedAt") LocalDateTime cursorTransactedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("transactionType") TransactionType transactionType,
+            @Param("transactionResultType") TransactionResultType transactionResultType,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Limit limit
+    );
 }
@@ -0,0 +1,136 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.dto.AccountMetadata;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.repository.AccountRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_NOT_FOUND;
+
+/**
+ * 계좌 번호 -> 계좌 메타데이터(id, 소유주 id, 상태) 로컬 캐시
+ * 계좌 해지 시 Redis pub/sub 으로 모든 노드의 캐시를 무효화한다.
+ * 메시지를 놓치는 경우를 대비해 expire-after-write 로 오래된 값은 다시 읽는다.
+ * 캐시 값이 잠시 늦더라도 잔액 변경 시점에 DB 에서 상태를 다시 확인하므로 해지 계좌에서 출금되지는 않는다.
+ */
+@Slf4j
+@Component
+public class AccountMetadataCache {
+    static final String INVALIDATION_TOPIC = "account:metadata:invalidate";
+
+    private final AccountRepository accountRepository;
+    private final RedissonClient redissonClient;
+    private final AsyncCache<String, AccountMetadata> cache;
+
+    private RTopic topic;
+    private Integer listenerId;
+
+    public AccountMetadataCache(
+            AccountRepository accountRepository,
+            RedissonClient redissonClient,
+            @Value("${account.metadata-cache.max-size:100000}") long maxSize,
+            @Value("${account.metadata-cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds
+    ) {
+        this.accountRepository = accountRepository;
+        this.redissonClient = redissonClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .buildAsync();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        try {
+            topic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+            listenerId = topic.addListener(String.class, (channel, accountNumber) -> cache.synchronous().invalidate(accountNumber));
+        } catch (Exception e) {
+            log.warn("Failed to subscribe account metadata invalidation topic", e);
+        }
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (topic != null && listenerId != null) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * 없는 계좌는 캐시하지 않는다. (생성 직후 바로 조회될 수 있으므로)
+     * Cache.get(key, loader) 는 맵의 synchronized 구간 안에서 loader(DB 조회)를 실행해 가상 스레드를 pinning 하므로,
+     * 자리만 future 로 잡아 두고 조회는 잠금 밖에서 호출 스레드가 직접 한다. 같은 계좌의 동시 조회는 그 future 를 기다린다.
+     */
+    public AccountMetadata get(String accountNumber) {
+        CompletableFuture<AccountMetadata> loading = new CompletableFuture<>();
+        CompletableFuture<AccountMetadata> cached = cache.asMap().putIfAbsent(accountNumber, loading);
+        if (cached != null) {
+            return join(cached);
+        }
+
+        try {
+            AccountMetadata metadata = accountRepository.findMetadataByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+            loading.complete(metadata);
+            return metadata;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(accountNumber, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 후에 무효화한다.
+     * 커밋 전에 무효화하면 다른 노드가 커밋 전 상태를 다시 캐시할 수 있다.
+     */
+    public void evictAfterCommit(String accountNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(accountNumber);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(accountNumber);
+            }
+        });
+    }
+
+    public void evict(String accountNumber) {
+        cache.synchronous().invalidate(accountNumber);
+
+        try {
+            redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE).publishAsync(accountNumber);
+        } catch (Exception e) {
+            log.warn("Failed to publish account metadata invalidation : {}", accountNumber, e);
+        }
+    }
+
+    private static AccountMetadata join(CompletableFuture<AccountMetadata> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.accountmanagement.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌 번호 발급기
+ * DB 시퀀스(account_number_seq)에서 block-size 만큼의 번호 구간을 한 번에 예약하고
+ * 구간 안의 번호는 메모리에서 순서대로 나눠 준다.
+ * 시퀀스가 노드 간 구간을 나눠 주므로 여러 노드에서 동시에 생성해도 번호가 겹치지 않는다.
+ * 시퀀스의 increment 값은 block-size 와 같아야 하므로 (data.sql) 기동 시 확인하고, 다르면 기동을 멈춘다.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class AccountNumberAllocator {
+    private static final String NEXT_BLOCK_SQL = "select next value for account_number_seq";
+    private static final String SEQUENCE_INCREMENT_SQL = "select increment from information_schema.sequences " +
+            "where upper(sequence_name) = 'ACCOUNT_NUMBER_SEQ'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+    private long blockEnd;
+
+    public AccountNumberAllocator(
+            JdbcTemplate jdbcTemplate,
+            @Value("${account.number.block-size:100}") long blockSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * increment 가 block-size 보다 크면 번호가 건너뛰어지고, 작으면 노드 간 구간이 겹쳐 번호가 중복된다.
+     */
+    @PostConstruct
+    public void verifySequenceIncrement() {
+        List<Long> increments = jdbcTemplate.queryForList(SEQUENCE_INCREMENT_SQL, Long.class);
+        if (increments.isEmpty()) {
+            throw new IllegalStateException("account_number_seq does not exist");
+        }
+        long increment = increments.get(0);
+        if (increment != blockSize) {
+            throw new IllegalStateException(String.format(
+                    "account_number_seq increments by %d but account.number.block-size is %d",
+                    increment, blockSize));
+        }
+    }
+
+    public String allocate() {
+        lock.lock();
+        try {
+            if (next >= blockEnd) {
+                reserveBlock();
+            }
+            return String.valueOf(next++);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reserveBlock() {
+        Long blockStart = jdbcTemplate.queryForObject(NEXT_BLOCK_SQL, Long.class);
+        if (blockStart == null) {
+            throw new IllegalStateException("account_number_seq returned no value");
+        }
+        next = blockStart;
+        blockEnd = blockStart + blockSize;
+        log.debug("Reserved account numbers [{}, {})", next, blockEnd);
+    }
+}
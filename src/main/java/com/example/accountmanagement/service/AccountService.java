@@ -5,23 +5,32 @@ import com.example.accountmanagement.type.AccountStatus;
 import com.example.accountmanagement.domain.AccountUser;
 import com.example.accountmanagement.dto.AccountDTO;
 import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.repository.AccountCountRepository;
 import com.example.accountmanagement.repository.AccountRepository;
 import com.example.accountmanagement.repository.AccountUserRepository;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 import static com.example.accountmanagement.type.AccountStatus.IN_USE;
 import static com.example.accountmanagement.type.ErrorCode.*;
 
+@Timed("account.service")
 @Service
 @RequiredArgsConstructor
 public class AccountService {
+    private static final int MAX_ACCOUNT_PER_USER = 10;
+
     private final AccountRepository accountRepository;
     private final AccountUserRepository accountUserRepository;
+    private final AccountCountRepository accountCountRepository;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final AccountMetadataCache accountMetadataCache;
 
     @Transactional
     public AccountDTO createAccount(Long userId, Long initialBalance) {
@@ -29,9 +38,7 @@ public class AccountService {
 
         validateCreateAccount(accountUser);
 
-        String newAccountNumber = accountRepository.findFirstByOrderByIdDesc()
-                .map(account -> (Integer.parseInt(account.getAccountNumber())) + 1 + "")
-                .orElse("1000000000");
+        String newAccountNumber = accountNumberAllocator.allocate();
 
         return AccountDTO.fromEntity(
                 accountRepository.save(Account.builder()
@@ -45,14 +52,14 @@ public class AccountService {
     }
 
     private void validateCreateAccount(AccountUser accountUser) {
-        if(accountRepository.countByAccountUser(accountUser) == 10) {
+        if(accountCountRepository.increaseAccountCount(accountUser.getId(), MAX_ACCOUNT_PER_USER) == 0) {
             throw new AccountException(MAX_ACCOUNT_PER_USER_10);
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Account getAccount(Long id) {
-        return accountRepository.findById(id).get();
+        return accountRepository.findWithAccountUserById(id).get();
     }
 
     @Transactional
@@ -68,12 +75,14 @@ public class AccountService {
         account.setUnRegisteredAt(LocalDateTime.now());
 
         accountRepository.save(account);
+        accountCountRepository.decreaseAccountCount(accountUser.getId());
+        accountMetadataCache.evictAfterCommit(accountNumber);
 
         return AccountDTO.fromEntity(account);
     }
 
     private void validateDeleteAccount(AccountUser accountUser, Account account) {
-        if(!accountUser.equals(account.getAccountUser())) {
+        if(!Objects.equals(accountUser.getId(), account.getAccountUser().getId())) {
             throw new AccountException(USER_ACCOUNT_UN_MATCH);
         }
         if(account.getAccountStatus() == AccountStatus.UNREGISTERED) {
@@ -84,14 +93,12 @@ public class AccountService {
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<AccountDTO> getAccountsByUserId(Long userId) {
         AccountUser accountUser = getAccountUser(userId);
 
-        List<Account> accounts = accountRepository.findByAccountUser(accountUser);
-
-        return accounts.stream()
-                .map(AccountDTO::fromEntity)
+        return accountRepository.findByAccountUser_Id(accountUser.getId()).stream()
+                .map(summary -> AccountDTO.fromSummary(accountUser.getId(), summary))
                 .toList();
     }
 
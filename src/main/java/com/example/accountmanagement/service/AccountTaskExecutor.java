@@ -0,0 +1,96 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.TransactionMode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+
+/**
+ * 계좌 단위 작업 실행기
+ * SHARDED 모드에서는 계좌 번호 해시로 고른 단일 스레드 shard 에 작업을 넘겨
+ * 한 계좌의 잔액 변경이 항상 같은 스레드에서 순서대로 처리되도록 한다. (락 불필요)
+ * 그 외 모드에서는 호출 스레드에서 바로 실행한다.
+ */
+@Slf4j
+@Component
+public class AccountTaskExecutor {
+    private final ThreadPoolExecutor[] shards;
+
+    public AccountTaskExecutor(
+            @Value("${account.transaction.mode:LOCK}") TransactionMode transactionMode,
+            @Value("${account.shard.count:0}") int shardCount,
+            @Value("${account.shard.queue-capacity:1000}") int queueCapacity
+    ) {
+        if (transactionMode != TransactionMode.SHARDED) {
+            this.shards = null;
+            return;
+        }
+
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new ThreadPoolExecutor[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = newShard(i, queueCapacity);
+        }
+        log.info("Account shard executor started with {} shards", count);
+    }
+
+    public <T> CompletableFuture<T> execute(String accountNumber, Supplier<T> task) {
+        if (shards == null) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            shardOf(accountNumber).execute(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.error("Shard queue is full for accountNumber : {}", accountNumber);
+            future.completeExceptionally(new AccountException(ACCOUNT_TRANSACTION_LOCK));
+        }
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (shards == null) {
+            return;
+        }
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    ThreadPoolExecutor shardOf(String accountNumber) {
+        int hash = accountNumber.hashCode();
+        hash ^= (hash >>> 16);
+        return shards[Math.floorMod(hash, shards.length)];
+    }
+
+    private static ThreadPoolExecutor newShard(int index, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "account-shard-" + index + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.TransactionMode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+
+/**
+ * ASYNC 모드 계좌 락 실행기
+ * tryLockAsync 로 락을 기다리는 동안에는 어떤 스레드도 붙잡지 않고,
+ * 락을 얻으면 크기가 제한된 작업 풀에서 작업을 실행한 뒤 작업이 끝나면(커밋 후) 락을 푼다.
+ * 작업 큐가 가득 차면 ACCOUNT_TRANSACTION_LOCK 으로 거절하고 락을 바로 푼다.
+ */
+@Slf4j
+@Component
+public class AsyncLockExecutor {
+    private final AsyncLockProvider lockProvider;
+    private final LockContentionMonitor lockContentionMonitor;
+    private final long waitTimeMs;
+    private final long leaseTimeMs;
+    private final ThreadPoolExecutor workers;
+    // 락 소유자 구분용 (요청마다 다르고, 획득/해제 스레드와 무관)
+    // Redisson 은 이 값을 스레드 id 자리에 쓰므로, 실제 스레드 id(양수)와 겹치지 않게 음수 범위에서 뽑는다.
+    private final AtomicLong ownerIds = new AtomicLong(Long.MIN_VALUE);
+
+    public AsyncLockExecutor(
+            ObjectProvider<AsyncLockProvider> asyncLockProviders,
+            LockContentionMonitor lockContentionMonitor,
+            @Value("${account.transaction.mode:LOCK}") TransactionMode transactionMode,
+            @Value("${account.lock.wait-time-ms:1000}") long waitTimeMs,
+            @Value("${account.lock.lease-time-ms:15000}") long leaseTimeMs,
+            @Value("${account.async.worker-threads:0}") int workerThreads,
+            @Value("${account.async.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.lockContentionMonitor = lockContentionMonitor;
+        this.waitTimeMs = waitTimeMs;
+        this.leaseTimeMs = leaseTimeMs;
+        if (transactionMode != TransactionMode.ASYNC) {
+            this.lockProvider = null;
+            this.workers = null;
+            return;
+        }
+        this.lockProvider = asyncLockProviders.getIfAvailable();
+        if (lockProvider == null) {
+            throw new IllegalStateException(
+                    "account.transaction.mode=ASYNC requires an async lock provider (account.lock.provider=redisson)");
+        }
+
+        int count = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors() * 2;
+        this.workers = newWorkers(count, queueCapacity);
+        log.info("Async lock executor started with {} workers", count);
+    }
+
+    public <T> CompletableFuture<T> execute(String accountNumber, Supplier<? extends CompletionStage<T>> task) {
+        long ownerId = ownerIds.incrementAndGet();
+        long waitStartedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        // 콜백은 Redis 응답 스레드에서 불리므로 작업 풀에 넘기기만 한다.
+        lockAsync(accountNumber, ownerId).whenComplete((acquired, lockError) -> {
+            long waitNanos = System.nanoTime() - waitStartedAt;
+            if (lockError != null) {
+                lockContentionMonitor.lockFailed(accountNumber, waitNanos);
+                result.completeExceptionally(unwrap(lockError));
+                return;
+            }
+
+            LockContentionMonitor.Hold hold = lockContentionMonitor.lockAcquired(accountNumber, waitNanos);
+            Runnable release = () -> {
+                if (acquired) {
+                    unlockAsync(accountNumber, ownerId);
+                }
+                lockContentionMonitor.lockReleased(hold);
+            };
+
+            try {
+                workers.execute(() -> run(task).whenComplete((value, error) -> {
+                    release.run();
+                    if (error != null) {
+                        result.completeExceptionally(unwrap(error));
+                    } else {
+                        result.complete(value);
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                log.error("Async lock worker queue is full for accountNumber : {}", accountNumber);
+                release.run();
+                result.completeExceptionally(new AccountException(ACCOUNT_TRANSACTION_LOCK));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 대기 시간 안에 못 얻으면 ACCOUNT_TRANSACTION_LOCK 으로 실패한다.
+     * LockService.lock() 과 같이 Redis 오류는 락 없이 진행하며, 이때는 false 로 완료되어 풀 락이 없음을 알린다.
+     */
+    private CompletableFuture<Boolean> lockAsync(String accountNumber, long ownerId) {
+        log.debug("Trying async lock for accountNumber : {} ", accountNumber);
+
+        CompletableFuture<Boolean> tryLock;
+        try {
+            tryLock = lockProvider.tryLockAsync(LockService.getLockKey(accountNumber), ownerId,
+                    waitTimeMs, leaseTimeMs, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            tryLock = CompletableFuture.failedFuture(e);
+        }
+
+        return tryLock.handle((isLock, e) -> {
+            if (e != null) {
+                log.error("Redis Lock Failed", e);
+                return false;
+            }
+            if (!isLock) {
+                log.error("==========Lock Acquisition Failed=========");
+                throw new AccountException(ACCOUNT_TRANSACTION_LOCK);
+            }
+            return true;
+        });
+    }
+
+    private void unlockAsync(String accountNumber, long ownerId) {
+        log.debug("Async unlock for accountNumber : {} ", accountNumber);
+        lockProvider.unlockAsync(LockService.getLockKey(accountNumber), ownerId)
+                .exceptionally(e -> {
+                    log.error("Redis Unlock Failed for accountNumber : {}", accountNumber, e);
+                    return null;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    private static <T> CompletableFuture<T> run(Supplier<? extends CompletionStage<T>> task) {
+        try {
+            return task.get().toCompletableFuture();
+        } catch (Throwable e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private static ThreadPoolExecutor newWorkers(int count, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                count, count, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "account-async-lock-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.accountmanagement.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락을 기다리는 동안 호출 스레드를 막지 않는 락 백엔드 (ASYNC 모드)
+ * 획득한 스레드와 다른 스레드에서 풀 수 있도록 소유자는 스레드가 아닌 ownerId 로 지정한다.
+ */
+public interface AsyncLockProvider extends LockProvider {
+    CompletableFuture<Boolean> tryLockAsync(
+            String lockKey, long ownerId, long waitTime, long leaseTime, TimeUnit unit);
+
+    CompletableFuture<Void> unlockAsync(String lockKey, long ownerId);
+}
@@ -0,0 +1,121 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.domain.DailyBalanceSnapshot;
+import com.example.accountmanagement.domain.Transaction;
+import com.example.accountmanagement.dto.AccountMetadata;
+import com.example.accountmanagement.dto.Statement;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.repository.AccountRepository;
+import com.example.accountmanagement.repository.DailyBalanceSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static com.example.accountmanagement.type.ErrorCode.INVALID_REQUEST;
+import static com.example.accountmanagement.type.TransactionType.USE;
+
+/**
+ * 일별 잔액 스냅샷 관리 / 거래 명세 조회
+ * 스냅샷은 거래와 같은 트랜잭션에서 누적되므로 당일 분까지 항상 최신이다.
+ * 명세는 기간의 스냅샷과 기간 앞/뒤 스냅샷 한 건씩만 읽으므로 계좌의 거래 수와 무관하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyBalanceSnapshotService {
+    private final DailyBalanceSnapshotRepository dailyBalanceSnapshotRepository;
+    private final AccountRepository accountRepository;
+    private final AccountMetadataCache accountMetadataCache;
+
+    /**
+     * 성공 거래를 그날의 스냅샷에 반영한다.
+     * 같은 계좌의 거래는 계좌 락(또는 계좌 행 갱신)으로 직렬화되므로 update 후 insert 로 충분하다.
+     */
+    public void record(Transaction transaction) {
+        Long accountId = transaction.getAccount().getId();
+        LocalDate snapshotDate = transaction.getTransactedAt().toLocalDate();
+        Long amount = transaction.getAmount();
+        Long closingBalance = transaction.getBalanceSnapshot();
+        Long debitAmount = transaction.getTransactionType() == USE ? amount : 0L;
+        Long creditAmount = transaction.getTransactionType() == USE ? 0L : amount;
+
+        if (dailyBalanceSnapshotRepository.accumulate(
+                accountId, snapshotDate, debitAmount, creditAmount, closingBalance) > 0) {
+            return;
+        }
+
+        dailyBalanceSnapshotRepository.save(DailyBalanceSnapshot.builder()
+                .accountId(accountId)
+                .snapshotDate(snapshotDate)
+                .openingBalance(closingBalance + debitAmount - creditAmount)
+                .debitAmount(debitAmount)
+                .creditAmount(creditAmount)
+                .closingBalance(closingBalance)
+                .transactionCount(1L)
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    public Statement.Response getStatement(String accountNumber, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        AccountMetadata metadata = accountMetadataCache.get(accountNumber);
+        List<DailyBalanceSnapshot> snapshots = dailyBalanceSnapshotRepository
+                .findByAccountIdAndSnapshotDateBetweenOrderBySnapshotDate(metadata.getId(), from, to);
+
+        Long openingBalance = getOpeningBalance(metadata.getId(), from, to, snapshots);
+        Long closingBalance = snapshots.isEmpty()
+                ? openingBalance
+                : snapshots.get(snapshots.size() - 1).getClosingBalance();
+
+        return Statement.Response.builder()
+                .accountNumber(accountNumber)
+                .from(from)
+                .to(to)
+                .openingBalance(openingBalance)
+                .closingBalance(closingBalance)
+                .debitAmount(snapshots.stream().mapToLong(DailyBalanceSnapshot::getDebitAmount).sum())
+                .creditAmount(snapshots.stream().mapToLong(DailyBalanceSnapshot::getCreditAmount).sum())
+                .transactionCount(snapshots.stream().mapToLong(DailyBalanceSnapshot::getTransactionCount).sum())
+                .days(snapshots.stream()
+                        .map(Statement.Day::from)
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 기간 시작 잔액
+     * 1. 기간 전 마지막 스냅샷의 마감 잔액
+     * 2. 없으면 기간 중 첫 스냅샷의 시작 잔액
+     * 3. 기간 중에도 거래가 없으면 기간 후 첫 스냅샷의 시작 잔액
+     * 4. 그 이후로도 거래가 없으면 현재 잔액
+     */
+    private Long getOpeningBalance(
+            Long accountId,
+            LocalDate from,
+            LocalDate to,
+            List<DailyBalanceSnapshot> snapshots
+    ) {
+        Optional<DailyBalanceSnapshot> before = dailyBalanceSnapshotRepository
+                .findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(accountId, from);
+        if (before.isPresent()) {
+            return before.get().getClosingBalance();
+        }
+        if (!snapshots.isEmpty()) {
+            return snapshots.get(0).getOpeningBalance();
+        }
+
+        return dailyBalanceSnapshotRepository
+                .findFirstByAccountIdAndSnapshotDateGreaterThanOrderBySnapshotDate(accountId, to)
+                .map(DailyBalanceSnapshot::getOpeningBalance)
+                .orElseGet(() -> accountRepository.findById(accountId)
+                        .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND))
+                        .getBalance());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.type.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 응답으로 내려간 ErrorCode 별 횟수 (account.errors, 태그는 error_code 하나)
+ */
+@Component
+public class ErrorCodeMetrics {
+    private final Map<ErrorCode, Counter> counters = new EnumMap<>(ErrorCode.class);
+
+    public ErrorCodeMetrics(MeterRegistry meterRegistry) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            counters.put(errorCode, Counter.builder("account.errors")
+                    .description("Error responses by error code")
+                    .tag("error_code", errorCode.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    public void increment(ErrorCode errorCode) {
+        counters.get(errorCode).increment();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.aop.AccountLockIdInterface;
+import com.example.accountmanagement.exception.AccountException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.accountmanagement.type.ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS;
+import static com.example.accountmanagement.type.ErrorCode.INVALID_REQUEST;
+
+/**
+ * @Idempotent 메서드 앞단에서 Idempotency-Key 를 처리한다.
+ * 계좌 락(LockAopAspect)보다 바깥에서 실행되므로 재요청은 락을 잡지 않는다.
+ * 키는 메서드 + 계좌번호 + 헤더 값으로 만들고, 요청 본문 해시를 응답과 함께 저장한다.
+ * 1. 저장된 응답이 있으면 본문이 같을 때만 그대로 반환 (다르면 INVALID_REQUEST)
+ * 2. 같은 노드에서 같은 키의 요청이 처리 중이면 그 결과를 함께 기다림
+ * 3. Redis 에 키를 선점한 뒤 처리, 다른 노드가 처리 중이면 IDEMPOTENCY_KEY_IN_PROGRESS
+ * 4. 성공한 응답만 저장 (실패는 선점을 풀어 재시도 시 다시 처리)
+ */
+@Aspect
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IdempotencyAspect {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final Map<String, InFlight> inFlightRequests = new ConcurrentHashMap<>();
+
+    @Around("@annotation(com.example.accountmanagement.aop.Idempotent) && args(request)")
+    public Object aroundMethod(ProceedingJoinPoint pjp, AccountLockIdInterface request) throws Throwable {
+        String idempotencyKey = currentIdempotencyKey();
+        if (idempotencyKey == null) {
+            return pjp.proceed();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        String cacheKey = method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                + ":" + request.getAccountNumber() + ":" + idempotencyKey;
+        String requestHash = idempotencyStore.hash(request);
+
+        IdempotencyStore.Entry stored = idempotencyStore.find(cacheKey);
+        if (stored != null && stored.isCompleted()) {
+            log.debug("Replay idempotent response for key : {}", cacheKey);
+            return CompletableFuture.completedFuture(replay(stored, requestHash, method));
+        }
+
+        InFlight inFlight = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlightRequests.putIfAbsent(cacheKey, inFlight);
+        if (running != null) {
+            if (!running.requestHash().equals(requestHash)) {
+                throw new AccountException(INVALID_REQUEST);
+            }
+            return running.response();
+        }
+
+        try {
+            if (!idempotencyStore.claim(cacheKey, requestHash)) {
+                // 다른 노드가 선점했거나, 조회 후 선점 전에 완료되었다.
+                Object replayed = replay(idempotencyStore.find(cacheKey), requestHash, method);
+                inFlight.response().complete(replayed);
+                inFlightRequests.remove(cacheKey, inFlight);
+                return CompletableFuture.completedFuture(replayed);
+            }
+        } catch (Throwable e) {
+            inFlight.response().completeExceptionally(e);
+            inFlightRequests.remove(cacheKey, inFlight);
+            throw e;
+        }
+
+        try {
+            CompletableFuture<?> result = (CompletableFuture<?>) pjp.proceed();
+            result.whenComplete((response, error) -> {
+                if (error == null) {
+                    idempotencyStore.complete(cacheKey, requestHash, response);
+                    inFlight.response().complete(response);
+                } else {
+                    idempotencyStore.release(cacheKey, requestHash);
+                    inFlight.response().completeExceptionally(error);
+                }
+                inFlightRequests.remove(cacheKey, inFlight);
+            });
+            return result;
+        } catch (Throwable e) {
+            idempotencyStore.release(cacheKey, requestHash);
+            inFlight.response().completeExceptionally(e);
+            inFlightRequests.remove(cacheKey, inFlight);
+            throw e;
+        }
+    }
+
+    /**
+     * 저장된 응답은 같은 본문의 요청에만 돌려준다.
+     * 선점만 되어 있으면(다른 노드가 처리 중) 잠시 후 재시도하도록 거절한다.
+     */
+    private Object replay(IdempotencyStore.Entry stored, String requestHash, Method method) {
+        if (stored != null && !stored.requestHash().equals(requestHash)) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+        if (stored == null || !stored.isCompleted()) {
+            throw new AccountException(IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+        return idempotencyStore.readResponse(stored, responseTypeOf(method));
+    }
+
+    private String currentIdempotencyKey() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletRequestAttributes)) {
+            return null;
+        }
+        return servletRequestAttributes.getRequest().getHeader(IDEMPOTENCY_KEY_HEADER);
+    }
+
+    private Class<?> responseTypeOf(Method method) {
+        return ResolvableType.forMethodReturnType(method).getGeneric(0).toClass();
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<Object> response) {
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.accountmanagement.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idempotency-Key 저장소
+ * 처리 전에 Redis 에 SET NX 로 키를 선점(PENDING)하고, 성공하면 응답으로 덮어쓴다.
+ * 요청 본문 해시를 함께 저장해 같은 키로 다른 요청이 오면 구분할 수 있게 한다.
+ * 완료된 응답은 로컬 Caffeine 캐시를 먼저 보고, 없으면 Redis(다른 노드가 처리한 요청)를 본다.
+ * Redis 장애 시에는 로컬 캐시만으로 동작한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+    private static final String KEY_PREFIX = "IDEM:";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Entry> localCache;
+    private final long ttlSeconds;
+    private final long pendingTtlSeconds;
+
+    public IdempotencyStore(
+            RedissonClient redissonClient,
+            ObjectMapper objectMapper,
+            @Value("${account.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${account.idempotency.pending-ttl-seconds:30}") long pendingTtlSeconds,
+            @Value("${account.idempotency.local-max-size:100000}") long localMaxSize
+    ) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = ttlSeconds;
+        this.pendingTtlSeconds = pendingTtlSeconds;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(localMaxSize)
+                .build();
+    }
+
+    /**
+     * 저장된 항목 (없으면 null)
+     * 처리 중(PENDING)인 항목은 response 가 null 이다.
+     */
+    public Entry find(String key) {
+        Entry cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            String json = getBucket(key).get();
+            if (json == null) {
+                return null;
+            }
+            Entry entry = objectMapper.readValue(json, Entry.class);
+            if (entry.isCompleted()) {
+                localCache.put(key, entry);
+            }
+            return entry;
+        } catch (Exception e) {
+            log.warn("Failed to read idempotent response for key : {}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * 처리 전에 키를 선점한다. 이미 다른 요청이 선점했거나 완료된 키면 false.
+     * PENDING 은 짧은 TTL 로 두어, 처리 중 노드가 죽어도 키가 영원히 묶이지 않게 한다.
+     */
+    public boolean claim(String key, String requestHash) {
+        try {
+            return getBucket(key).trySet(toJson(Entry.pending(requestHash)),
+                    pendingTtlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to claim idempotency key, falling back to local only : {}", key, e);
+            return true;
+        }
+    }
+
+    /**
+     * 선점한 키를 응답으로 덮어쓴다.
+     */
+    public void complete(String key, String requestHash, Object response) {
+        try {
+            Entry entry = Entry.completed(requestHash, objectMapper.writeValueAsString(response));
+            localCache.put(key, entry);
+            getBucket(key).setAsync(toJson(entry), ttlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to store idempotent response for key : {}", key, e);
+        }
+    }
+
+    /**
+     * 처리에 실패하면 선점을 풀어 재시도가 다시 처리되게 한다. (내가 선점한 경우에만)
+     */
+    public void release(String key, String requestHash) {
+        try {
+            getBucket(key).compareAndSetAsync(toJson(Entry.pending(requestHash)), null);
+        } catch (Exception e) {
+            log.warn("Failed to release idempotency key : {}", key, e);
+        }
+    }
+
+    public <T> T readResponse(Entry entry, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(entry.response(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is not readable", e);
+        }
+    }
+
+    /**
+     * 요청 본문의 SHA-256 해시
+     */
+    public String hash(Object request) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to hash idempotent request", e);
+        }
+    }
+
+    private String toJson(Entry entry) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(entry);
+    }
+
+    private RBucket<String> getBucket(String key) {
+        return redissonClient.getBucket(KEY_PREFIX + key, StringCodec.INSTANCE);
+    }
+
+    public record Entry(String requestHash, String response) {
+        static Entry pending(String requestHash) {
+            return new Entry(requestHash, null);
+        }
+
+        static Entry completed(String requestHash, String response) {
+            return new Entry(requestHash, response);
+        }
+
+        @JsonIgnore
+        public boolean isCompleted() {
+            return response != null;
+        }
+    }
+}
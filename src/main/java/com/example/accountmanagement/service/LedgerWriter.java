@@ -0,0 +1,200 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.dto.LedgerEntry;
+import com.example.accountmanagement.type.LedgerOverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 원장 group commit
+ * 여러 요청의 원장 INSERT 를 짧은 시간(window) 또는 일정 건수(batch-size)만큼 모아
+ * 하나의 DB 트랜잭션에서 JDBC batch 로 기록하고, 커밋이 끝나면 각 호출자의 future 를 완료한다.
+ * appendAsync 는 커밋을 기다리지 않으며, 대기열이 가득 차면 overflow-policy 를 따른다.
+ */
+@Slf4j
+@Component
+public class LedgerWriter {
+    private static final String INSERT_SQL =
+            "insert into transaction (id, transaction_type, transaction_result_type, account_id, " +
+            "amount, balance_snapshot, transaction_id, transacted_at, created_at, updated_at) " +
+            "select next value for transaction_seq, ?, ?, a.id, ?, a.balance, ?, ?, ?, ? " +
+            "from account a where a.account_number = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long windowNanos;
+    private final BlockingQueue<PendingEntry> queue;
+    private final LedgerOverflowPolicy overflowPolicy;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public LedgerWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.ledger.batch-size:100}") int batchSize,
+            @Value("${account.ledger.window-micros:500}") long windowMicros,
+            @Value("${account.ledger.queue-capacity:10000}") int queueCapacity,
+            @Value("${account.ledger.overflow-policy:DROP}") LedgerOverflowPolicy overflowPolicy
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.droppedCounter = Counter.builder("account.ledger.dropped")
+                .description("Ledger entries dropped because the queue was full")
+                .register(meterRegistry);
+        meterRegistry.gauge("account.ledger.queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "ledger-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * 원장 한 건을 group commit 대기열에 넣는다.
+     * 반환된 future 는 해당 batch 가 커밋되면 완료된다.
+     */
+    public CompletableFuture<Void> append(LedgerEntry entry) {
+        PendingEntry pending = new PendingEntry(entry, new CompletableFuture<>());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future().completeExceptionally(e);
+        }
+        return pending.future();
+    }
+
+    /**
+     * 커밋을 기다리지 않고 원장 한 건을 대기열에 넣는다. (실패 거래 기록용)
+     * 프로세스가 비정상 종료되면 아직 커밋되지 않은 기록은 유실될 수 있다.
+     */
+    public void appendAsync(LedgerEntry entry) {
+        PendingEntry pending = new PendingEntry(entry, null);
+        if (overflowPolicy == LedgerOverflowPolicy.BLOCK) {
+            try {
+                queue.put(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCounter.increment();
+            }
+            return;
+        }
+
+        if (!queue.offer(pending)) {
+            droppedCounter.increment();
+            log.warn("Ledger queue is full, dropped {} {} for accountNumber : {}",
+                    entry.getTransactionType(), entry.getTransactionResultType(), entry.getAccountNumber());
+        }
+    }
+
+    private void runFlusher() {
+        List<PendingEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<PendingEntry> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingEntry> batch) {
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+                        LedgerEntry entry = pending.entry();
+                        ps.setString(1, entry.getTransactionType().name());
+                        ps.setString(2, entry.getTransactionResultType().name());
+                        ps.setLong(3, entry.getAmount());
+                        ps.setString(4, entry.getTransactionId());
+                        ps.setTimestamp(5, Timestamp.valueOf(entry.getTransactedAt()));
+                        ps.setTimestamp(6, now);
+                        ps.setTimestamp(7, now);
+                        ps.setString(8, entry.getAccountNumber());
+                    }));
+            batch.forEach(PendingEntry::complete);
+        } catch (Exception e) {
+            log.error("Ledger batch of {} entries failed", batch.size(), e);
+            batch.forEach(pending -> pending.fail(e));
+        }
+    }
+
+    /**
+     * future 가 null 이면 appendAsync 로 들어온 기록이다.
+     */
+    private record PendingEntry(LedgerEntry entry, CompletableFuture<Void> future) {
+        void complete() {
+            if (future != null) {
+                future.complete(null);
+            }
+        }
+
+        void fail(Exception e) {
+            if (future != null) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
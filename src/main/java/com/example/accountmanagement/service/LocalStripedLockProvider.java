@@ -0,0 +1,52 @@
+package com.example.accountmanagement.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 노드 배포용 락
+ * 고정 크기의 ReentrantLock 배열을 계좌 번호 해시로 나눠 쓴다.
+ * 서로 다른 계좌가 같은 stripe 를 공유할 수 있지만 Redis 왕복은 없다.
+ * 점유 시간 제한(leaseTime)은 적용되지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "account.lock.provider", havingValue = "local")
+public class LocalStripedLockProvider implements LockProvider {
+    private final ReentrantLock[] stripes;
+
+    public LocalStripedLockProvider(
+            @Value("${account.lock.stripes:1024}") int stripeCount
+    ) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("account.lock.stripes must be positive");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit)
+            throws InterruptedException {
+        return stripeOf(lockKey).tryLock(waitTime, unit);
+    }
+
+    @Override
+    public void unlock(String lockKey) {
+        ReentrantLock lock = stripeOf(lockKey);
+        if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+        }
+    }
+
+    ReentrantLock stripeOf(String lockKey) {
+        int hash = lockKey.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+}
@@ -1,32 +1,84 @@
 package com.example.accountmanagement.service;
 
-import com.example.accountmanagement.dto.UseBalance;
+import com.example.accountmanagement.aop.AccountLockIdInterface;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.TransactionMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 트랜잭션 advisor 보다 먼저 실행되어, 같은 메서드에 @Transactional 이 있어도
+ * 락 획득 -> 트랜잭션 시작 -> 커밋 -> 락 해제 순서를 보장한다.
+ * ASYNC 모드에서 CompletableFuture 를 돌려주는 메서드는 AsyncLockExecutor 로 넘겨 락 대기 중 요청 스레드를 반환한다.
+ * (그 외 메서드는 LOCK 과 같이 호출 스레드에서 기다린다)
+ */
 @Aspect
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@Order(0)
 public class LockAopAspect {
     private final LockService lockService;
+    private final LockContentionMonitor lockContentionMonitor;
+    private final AsyncLockExecutor asyncLockExecutor;
+
+    @Value("${account.transaction.mode:LOCK}")
+    private TransactionMode transactionMode = TransactionMode.LOCK;
 
     @Around("@annotation(com.example.accountmanagement.aop.AccountLock) && args(request)")
     public Object aroundMethod(
             ProceedingJoinPoint pjp,
-            UseBalance.Request request
+            AccountLockIdInterface request
     ) throws Throwable {
+        if (transactionMode == TransactionMode.ASYNC && returnsFuture(pjp)) {
+            return asyncLockExecutor.execute(request.getAccountNumber(), () -> proceedAsync(pjp));
+        }
+        if (transactionMode != TransactionMode.LOCK && transactionMode != TransactionMode.ASYNC) {
+            // OPTIMISTIC 은 DB 조건부 UPDATE 가, SHARDED 는 계좌별 단일 스레드가 경합을 막는다.
+            return pjp.proceed();
+        }
+
         //try lock
-        lockService.lock(request.getAccountNumber());
+        long waitStartedAt = System.nanoTime();
+        try {
+            lockService.lock(request.getAccountNumber());
+        } catch (AccountException e) {
+            lockContentionMonitor.lockFailed(request.getAccountNumber(), System.nanoTime() - waitStartedAt);
+            throw e;
+        }
+        LockContentionMonitor.Hold hold = lockContentionMonitor.lockAcquired(
+                request.getAccountNumber(), System.nanoTime() - waitStartedAt);
+
         try{
             return pjp.proceed();
         } finally {
             //unlock
             lockService.unlock(request.getAccountNumber());
+            lockContentionMonitor.lockReleased(hold);
+        }
+    }
+
+    private static boolean returnsFuture(ProceedingJoinPoint pjp) {
+        return CompletionStage.class.isAssignableFrom(
+                ((MethodSignature) pjp.getSignature()).getReturnType());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<Object> proceedAsync(ProceedingJoinPoint pjp) {
+        try {
+            return (CompletionStage<Object>) pjp.proceed();
+        } catch (Throwable e) {
+            return CompletableFuture.failedFuture(e);
         }
     }
 }
@@ -0,0 +1,25 @@
+package com.example.accountmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/lockcontention?limit=20
+ * 경합(대기 지연 + 획득 실패)이 많은 계좌 순위
+ */
+@Component
+@Endpoint(id = "lockcontention")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+    private final LockContentionMonitor lockContentionMonitor;
+
+    @ReadOperation
+    public Map<String, Long> hotAccounts(@Nullable Integer limit) {
+        return lockContentionMonitor.getHotAccounts(limit == null ? 20 : limit);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.accountmanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 계좌 락 경합 지표
+ * 1. 락 대기 / 점유 시간 히스토그램 (account.lock.wait, account.lock.hold)
+ * 2. 락 획득 실패 횟수 (account.lock.failures)
+ * 3. 계좌별 경합 횟수 - 태그 폭증을 막기 위해 메트릭이 아닌 lockcontention 엔드포인트로 노출
+ *    decay-interval 마다 절반으로 줄이고 0 이 된 계좌는 빼서, 최근에 뜨거워진 계좌도 순위에 들어올 수 있게 한다.
+ * 4. lease 만료에 가까운 점유를 경고하는 watchdog
+ */
+@Slf4j
+@Component
+public class LockContentionMonitor {
+    private final Timer acquiredWaitTimer;
+    private final Timer failedWaitTimer;
+    private final Timer holdTimer;
+    private final Counter failureCounter;
+    private final Counter contendedCounter;
+    private final Counter nearExpiryCounter;
+
+    private final long leaseTimeNanos;
+    private final double leaseWarnRatio;
+    private final long contendedThresholdNanos;
+    private final int maxTrackedAccounts;
+
+    // 증가와 감쇠 모두 키 단위 원자 연산(merge / computeIfPresent)으로만 바꾼다.
+    private final Map<String, Long> contentionByAccount = new ConcurrentHashMap<>();
+    private final Map<String, Hold> activeHolds = new ConcurrentHashMap<>();
+
+    public LockContentionMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${account.lock.lease-time-ms:15000}") long leaseTimeMs,
+            @Value("${account.lock.watchdog.lease-warn-ratio:0.8}") double leaseWarnRatio,
+            @Value("${account.lock.contended-threshold-ms:10}") long contendedThresholdMs,
+            @Value("${account.lock.hot-account.max-tracked:10000}") int maxTrackedAccounts
+    ) {
+        this.acquiredWaitTimer = waitTimer(meterRegistry, "acquired");
+        this.failedWaitTimer = waitTimer(meterRegistry, "failed");
+        this.holdTimer = Timer.builder("account.lock.hold")
+                .description("Time an account lock is held")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("account.lock.failures")
+                .description("Account lock acquisition failures (ACCOUNT_TRANSACTION_LOCK)")
+                .register(meterRegistry);
+        this.contendedCounter = Counter.builder("account.lock.contended")
+                .description("Lock acquisitions that waited longer than the contention threshold")
+                .register(meterRegistry);
+        this.nearExpiryCounter = Counter.builder("account.lock.lease.near.expiry")
+                .description("Holds that reached the lease warning ratio")
+                .register(meterRegistry);
+        meterRegistry.gauge("account.lock.active", activeHolds, Map::size);
+
+        this.leaseTimeNanos = TimeUnit.MILLISECONDS.toNanos(leaseTimeMs);
+        this.leaseWarnRatio = leaseWarnRatio;
+        this.contendedThresholdNanos = TimeUnit.MILLISECONDS.toNanos(contendedThresholdMs);
+        this.maxTrackedAccounts = maxTrackedAccounts;
+    }
+
+    public Hold lockAcquired(String accountNumber, long waitNanos) {
+        acquiredWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos >= contendedThresholdNanos) {
+            contendedCounter.increment();
+            countContention(accountNumber);
+        }
+
+        Hold hold = new Hold(accountNumber, System.nanoTime());
+        activeHolds.put(accountNumber, hold);
+        return hold;
+    }
+
+    public void lockFailed(String accountNumber, long waitNanos) {
+        failedWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        failureCounter.increment();
+        countContention(accountNumber);
+    }
+
+    public void lockReleased(Hold hold) {
+        if (hold == null) {
+            return;
+        }
+        holdTimer.record(System.nanoTime() - hold.getStartedAt(), TimeUnit.NANOSECONDS);
+        activeHolds.remove(hold.getAccountNumber(), hold);
+    }
+
+    @Scheduled(fixedDelayString = "${account.lock.watchdog.interval-ms:1000}")
+    public void checkLongHolds() {
+        long warnAfterNanos = (long) (leaseTimeNanos * leaseWarnRatio);
+        long now = System.nanoTime();
+
+        for (Hold hold : activeHolds.values()) {
+            long heldNanos = now - hold.getStartedAt();
+            if (heldNanos >= warnAfterNanos && hold.flagged.compareAndSet(false, true)) {
+                nearExpiryCounter.increment();
+                log.warn("Lock for accountNumber : {} held {} ms, lease is {} ms",
+                        hold.getAccountNumber(),
+                        TimeUnit.NANOSECONDS.toMillis(heldNanos),
+                        TimeUnit.NANOSECONDS.toMillis(leaseTimeNanos));
+            }
+        }
+    }
+
+    public Map<String, Long> getHotAccounts(int limit) {
+        Map<String, Long> hotAccounts = new LinkedHashMap<>();
+        contentionByAccount.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(entry -> hotAccounts.put(entry.getKey(), entry.getValue()));
+        return hotAccounts;
+    }
+
+    @Scheduled(fixedDelayString = "${account.lock.hot-account.decay-interval-ms:60000}")
+    public void decayHotAccounts() {
+        // 반으로 줄이는 동안 들어온 증가는 같은 키의 merge 가 기다렸다가 반영하므로 잃지 않는다.
+        for (String accountNumber : contentionByAccount.keySet()) {
+            contentionByAccount.computeIfPresent(accountNumber,
+                    (key, count) -> count / 2 == 0 ? null : count / 2);
+        }
+    }
+
+    private void countContention(String accountNumber) {
+        if (contentionByAccount.size() >= maxTrackedAccounts
+                && !contentionByAccount.containsKey(accountNumber)) {
+            return;
+        }
+        contentionByAccount.merge(accountNumber, 1L, Long::sum);
+    }
+
+    private static Timer waitTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("account.lock.wait")
+                .description("Time spent waiting for an account lock")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Getter
+    public static class Hold {
+        private final String accountNumber;
+        private final long startedAt;
+        private final AtomicBoolean flagged = new AtomicBoolean();
+
+        Hold(String accountNumber, long startedAt) {
+            this.accountNumber = accountNumber;
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.accountmanagement.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 잠금 백엔드
+ * account.lock.provider 설정으로 구현체를 선택한다.
+ * 1. redisson : Redis 분산 락 (다중 노드)
+ * 2. local : JVM 내부 striped 락 (단일 노드)
+ * 비동기 획득이 가능한 구현체는 AsyncLockProvider 를 구현한다. (ASYNC 모드)
+ */
+public interface LockProvider {
+    boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit)
+            throws InterruptedException;
+
+    void unlock(String lockKey);
+}
@@ -4,8 +4,7 @@ import com.example.accountmanagement.exception.AccountException;
 import com.example.accountmanagement.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.TimeUnit;
@@ -14,14 +13,20 @@ import java.util.concurrent.TimeUnit;
 @Service
 @RequiredArgsConstructor
 public class LockService {
-    private final RedissonClient redissonClient;
+    private final LockProvider lockProvider;
+
+    @Value("${account.lock.wait-time-ms:1000}")
+    private long waitTimeMs = 1000L;
+
+    @Value("${account.lock.lease-time-ms:15000}")
+    private long leaseTimeMs = 15000L;
 
     public void lock(String accountNumber) {
-        RLock lock = redissonClient.getLock(getLockKey(accountNumber));
         log.debug("Trying lock for accountNumber : {} ", accountNumber);
 
         try{
-            boolean isLock = lock.tryLock(1, 15, TimeUnit.SECONDS);
+            boolean isLock = lockProvider.tryLock(
+                    getLockKey(accountNumber), waitTimeMs, leaseTimeMs, TimeUnit.MILLISECONDS);
             if(!isLock) {
                 log.error("==========Lock Acquisition Failed=========");
                 throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
@@ -35,10 +40,10 @@ public class LockService {
 
     public void unlock(String accountNumber) {
         log.debug("Unlock for accountNumber : {} ", accountNumber);
-        redissonClient.getLock(getLockKey(accountNumber));
+        lockProvider.unlock(getLockKey(accountNumber));
     }
 
-    private String getLockKey(String accountNumber) {
+    static String getLockKey(String accountNumber) {
         return "ACLK:" + accountNumber;
     }
 }
@@ -0,0 +1,132 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.dto.AccountInfo;
+import com.example.accountmanagement.dto.QueryTransactionResponse;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.repository.ReactiveReadRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucketReactive;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.accountmanagement.type.ErrorCode.TRANSACTION_NOT_FOUND;
+import static com.example.accountmanagement.type.ErrorCode.USER_NOT_FOUND;
+
+/**
+ * 리액티브 조회 API (거래 확인, 사용자 계좌 목록)
+ * Redis(reactive) 를 먼저 보고, 없으면 R2DBC 로 읽어 TTL 을 두고 채운다.
+ * 거래는 바뀌지 않으므로 길게, 계좌 목록은 잔액이 바뀌므로 짧게 둔다. 없는 거래 / 사용자는 캐시하지 않는다.
+ * Redis 오류는 캐시가 없는 것으로 보고 DB 에서 읽는다.
+ * 따라서 계좌 목록의 잔액은 최대 accounts-ttl-ms 만큼 늦을 수 있다. (MVC 조회는 항상 DB 를 읽는다)
+ * account.reactive.cache.enabled=false 면 MVC 와 같이 매번 DB 에서 읽는다. (MVC 와 같은 조건으로 비교할 때)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "account.reactive.enabled", havingValue = "true")
+public class ReactiveReadService {
+    private static final String TRANSACTION_KEY_PREFIX = "reactive:transaction:";
+    private static final String ACCOUNTS_KEY_PREFIX = "reactive:accounts:";
+    private static final TypeReference<List<AccountInfo>> ACCOUNT_LIST = new TypeReference<>() {
+    };
+
+    private final ReactiveReadRepository reactiveReadRepository;
+    private final RedissonReactiveClient redisson;
+    private final ObjectMapper objectMapper;
+    private final long transactionTtlMs;
+    private final long accountsTtlMs;
+    private final boolean cacheEnabled;
+
+    public ReactiveReadService(
+            ReactiveReadRepository reactiveReadRepository,
+            RedissonClient redissonClient,
+            ObjectMapper objectMapper,
+            @Value("${account.reactive.cache.transaction-ttl-ms:300000}") long transactionTtlMs,
+            @Value("${account.reactive.cache.accounts-ttl-ms:1000}") long accountsTtlMs,
+            @Value("${account.reactive.cache.enabled:true}") boolean cacheEnabled
+    ) {
+        this.reactiveReadRepository = reactiveReadRepository;
+        this.redisson = redissonClient.reactive();
+        this.objectMapper = objectMapper;
+        this.transactionTtlMs = transactionTtlMs;
+        this.accountsTtlMs = accountsTtlMs;
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public Mono<QueryTransactionResponse> queryTransaction(String transactionId) {
+        if (!cacheEnabled) {
+            return reactiveReadRepository.findTransaction(transactionId)
+                    .switchIfEmpty(Mono.error(() -> new AccountException(TRANSACTION_NOT_FOUND)));
+        }
+        RBucketReactive<String> bucket = redisson.getBucket(TRANSACTION_KEY_PREFIX + transactionId, StringCodec.INSTANCE);
+        return readCache(bucket)
+                .map(json -> fromJson(json, QueryTransactionResponse.class))
+                .switchIfEmpty(Mono.defer(() -> reactiveReadRepository.findTransaction(transactionId)
+                        .flatMap(response -> writeCache(bucket, response, transactionTtlMs))))
+                .switchIfEmpty(Mono.error(() -> new AccountException(TRANSACTION_NOT_FOUND)));
+    }
+
+    public Mono<List<AccountInfo>> getAccountsByUserId(Long userId) {
+        if (!cacheEnabled) {
+            return reactiveReadRepository.findAccountsByUserId(userId)
+                    .switchIfEmpty(Mono.error(() -> new AccountException(USER_NOT_FOUND)));
+        }
+        RBucketReactive<String> bucket = redisson.getBucket(ACCOUNTS_KEY_PREFIX + userId, StringCodec.INSTANCE);
+        return readCache(bucket)
+                .map(json -> fromJson(json, ACCOUNT_LIST))
+                .switchIfEmpty(Mono.defer(() -> reactiveReadRepository.findAccountsByUserId(userId)
+                        .flatMap(accounts -> writeCache(bucket, accounts, accountsTtlMs))))
+                .switchIfEmpty(Mono.error(() -> new AccountException(USER_NOT_FOUND)));
+    }
+
+    private static Mono<String> readCache(RBucketReactive<String> bucket) {
+        return bucket.get()
+                .onErrorResume(e -> {
+                    log.warn("Failed to read reactive cache : {}", bucket.getName(), e);
+                    return Mono.empty();
+                });
+    }
+
+    private <T> Mono<T> writeCache(RBucketReactive<String> bucket, T value, long ttlMs) {
+        return bucket.set(toJson(value), ttlMs, TimeUnit.MILLISECONDS)
+                .onErrorResume(e -> {
+                    log.warn("Failed to write reactive cache : {}", bucket.getName(), e);
+                    return Mono.empty();
+                })
+                .thenReturn(value);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
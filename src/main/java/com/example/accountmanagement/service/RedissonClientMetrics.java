@@ -0,0 +1,84 @@
+package com.example.accountmanagement.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.Node;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redisson 클라이언트 상태 지표
+ * 오픈소스 Redisson 은 커넥션 풀 통계를 공개 API 로 제공하지 않으므로 노드 수와 응답 여부를 노출한다.
+ * redisson.nodes.reachable 은 scrape 가 아니라 ping-interval 마다 짧은 timeout 의 비동기 PING 으로 갱신하고,
+ * gauge 는 마지막 결과만 읽는다. (Redis 장애 중에도 scrape 가 PING timeout 에 묶이지 않도록)
+ * account.metrics.redisson.enabled=false 면 지표와 PING 을 모두 끈다. (벤치마크 등)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "account.metrics.redisson.enabled", havingValue = "true", matchIfMissing = true)
+public class RedissonClientMetrics implements MeterBinder {
+    private final RedissonClient redissonClient;
+    private final long pingTimeoutMs;
+    private final AtomicInteger reachableNodes = new AtomicInteger();
+
+    public RedissonClientMetrics(
+            RedissonClient redissonClient,
+            @Value("${account.metrics.redisson.ping-timeout-ms:500}") long pingTimeoutMs
+    ) {
+        this.redissonClient = redissonClient;
+        this.pingTimeoutMs = pingTimeoutMs;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("redisson.nodes", redissonClient, client -> client.getNodesGroup().getNodes().size())
+                .description("Redis nodes known to the Redisson client")
+                .register(registry);
+        Gauge.builder("redisson.nodes.reachable", reachableNodes, AtomicInteger::get)
+                .description("Redis nodes that answered the last PING")
+                .register(registry);
+        Gauge.builder("redisson.shutdown", redissonClient, client -> client.isShuttingDown() || client.isShutdown() ? 1 : 0)
+                .description("1 while the Redisson client is shutting down or shut down")
+                .register(registry);
+    }
+
+    /**
+     * 스케줄러 스레드는 PING 을 보내기만 하고 응답을 기다리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${account.metrics.redisson.ping-interval-ms:5000}")
+    public void refreshReachableNodes() {
+        if (redissonClient.isShuttingDown() || redissonClient.isShutdown()) {
+            reachableNodes.set(0);
+            return;
+        }
+
+        List<CompletableFuture<Boolean>> pings = redissonClient.getNodesGroup().getNodes().stream()
+                .map(this::ping)
+                .toList();
+        CompletableFuture.allOf(pings.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, e) -> reachableNodes.set((int) pings.stream()
+                        .filter(ping -> ping.getNow(false))
+                        .count()));
+    }
+
+    private CompletableFuture<Boolean> ping(Node node) {
+        try {
+            return node.pingAsync(pingTimeoutMs, TimeUnit.MILLISECONDS)
+                    .toCompletableFuture()
+                    .exceptionally(e -> false);
+        } catch (RuntimeException e) {
+            log.debug("Failed to ping redis node : {}", node.getAddr(), e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.accountmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.lock.provider", havingValue = "redisson", matchIfMissing = true)
+public class RedissonLockProvider implements AsyncLockProvider {
+    private final RedissonClient redissonClient;
+
+    @Override
+    public boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit)
+            throws InterruptedException {
+        return redissonClient.getLock(lockKey).tryLock(waitTime, leaseTime, unit);
+    }
+
+    /**
+     * 소유 여부를 먼저 묻지 않고 바로 푼다. (unlock 마다 Redis 왕복 한 번)
+     * 이미 내 락이 아니면 lease 가 만료되어 다른 요청이 잡은 경우이므로 로그만 남긴다.
+     */
+    @Override
+    public void unlock(String lockKey) {
+        try {
+            redissonClient.getLock(lockKey).unlock();
+        } catch (IllegalMonitorStateException e) {
+            log.warn("Lock lease expired before unlock : {}", lockKey);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryLockAsync(
+            String lockKey, long ownerId, long waitTime, long leaseTime, TimeUnit unit) {
+        return redissonClient.getLock(lockKey)
+                .tryLockAsync(waitTime, leaseTime, unit, ownerId)
+                .toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> unlockAsync(String lockKey, long ownerId) {
+        return redissonClient.getLock(lockKey)
+                .unlockAsync(ownerId)
+                .toCompletableFuture();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.accountmanagement.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * replica 지연 감시 (heartbeat 방식)
+ * 확인할 때마다 primary 의 replica_heartbeat 행에 현재 시각을 쓰고 replica 에서 다시 읽는다.
+ * replica 가 방금 쓴 값을 돌려주면 지연 0, 아니면 replica 에 아직 반영되지 않은
+ * 가장 오래된 heartbeat 가 쓰인 뒤 지난 시간을 지연으로 본다.
+ * (마지막으로 읽힌 값 기준으로 재면 지연이 있을 때 항상 확인 주기만큼 더 크게 잡힌다)
+ * 지연이 max-lag-ms 를 넘거나, 확인에 실패하거나, 마지막 확인이 주기의 2배보다 오래되면 읽기도 primary 로 보낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "account.datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+    private static final String WRITE_HEARTBEAT_SQL = "update replica_heartbeat set beat_at_ms = ? where id = 1";
+    private static final String READ_HEARTBEAT_SQL = "select beat_at_ms from replica_heartbeat where id = 1";
+    private static final int MAX_TRACKED_BEATS = 64;
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+    private final long checkIntervalMs;
+    // 최근에 쓴 heartbeat (checkLag 스케줄 스레드에서만 접근)
+    private final Deque<Long> writtenBeats = new ArrayDeque<>();
+
+    private volatile boolean replicaUsable = false;
+    private volatile long lagMs = -1;
+    private volatile long lastCheckedAtMs = 0;
+
+    public ReplicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${account.datasource.replica.max-lag-ms:1000}") long maxLagMs,
+            @Value("${account.datasource.replica.lag-check-interval-ms:1000}") long checkIntervalMs
+    ) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagMs = maxLagMs;
+        this.checkIntervalMs = checkIntervalMs;
+        meterRegistry.gauge("account.datasource.replica.lag", this, ReplicaLagMonitor::getLagMs);
+    }
+
+    @Scheduled(fixedDelayString = "${account.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        try {
+            long beatAtMs = System.currentTimeMillis();
+            primaryJdbcTemplate.update(WRITE_HEARTBEAT_SQL, beatAtMs);
+            writtenBeats.addLast(beatAtMs);
+            if (writtenBeats.size() > MAX_TRACKED_BEATS) {
+                writtenBeats.removeFirst();
+            }
+
+            Long seenBeatAtMs = replicaJdbcTemplate.queryForObject(READ_HEARTBEAT_SQL, Long.class);
+            lagMs = seenBeatAtMs == null ? -1 : lagOf(seenBeatAtMs, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.debug("Replica lag check failed", e);
+            lagMs = -1;
+        }
+        lastCheckedAtMs = System.currentTimeMillis();
+
+        boolean usable = lagMs >= 0 && lagMs <= maxLagMs;
+        if (usable != replicaUsable) {
+            log.info("Replica reads {} (lag : {} ms)", usable ? "enabled" : "disabled", lagMs);
+        }
+        replicaUsable = usable;
+    }
+
+    /**
+     * 확인이 멈춰 마지막 결과가 오래되었으면 사용하지 않는다.
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable && System.currentTimeMillis() - lastCheckedAtMs <= checkIntervalMs * 2;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    private long lagOf(long seenBeatAtMs, long nowMs) {
+        for (long beatAtMs : writtenBeats) {
+            if (beatAtMs > seenBeatAtMs) {
+                return nowMs - beatAtMs;
+            }
+        }
+        return 0;
+    }
+}
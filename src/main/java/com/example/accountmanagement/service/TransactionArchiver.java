@@ -0,0 +1,147 @@
+package com.example.accountmanagement.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 취소 가능 기간(TransactionService.CANCEL_WINDOW) + grace 가 지난 거래를
+ * transaction_archive 로 옮긴다.
+ * chunk-size 건씩 (복사 + 삭제)를 한 트랜잭션으로 처리해 락 점유와 undo 크기를 작게 유지하고,
+ * 여러 노드에서 동시에 돌지 않도록 chunk 마다 ARCHIVE 락을 잡는다.
+ * chunk 사이에 쉬는 동안 다른 @Scheduled 작업(복제 지연 확인, 락 watchdog)이 밀리지 않도록
+ * 스케줄러 스레드는 전용 스레드에 작업을 넘기기만 한다.
+ */
+@Slf4j
+@Component
+public class TransactionArchiver {
+    private static final String LOCK_KEY = "ARCHIVE:transaction";
+    private static final long LOCK_LEASE_SECONDS = 60;
+
+    private static final String SELECT_IDS_SQL =
+            "select id from transaction where transacted_at < ? order by transacted_at limit ?";
+    private static final String COPY_SQL =
+            "insert into transaction_archive (id, transaction_type, transaction_result_type, account_id, " +
+            "account_number, amount, balance_snapshot, transaction_id, transacted_at, archived_at) " +
+            "select t.id, t.transaction_type, t.transaction_result_type, t.account_id, " +
+            "a.account_number, t.amount, t.balance_snapshot, t.transaction_id, t.transacted_at, ? " +
+            "from transaction t join account a on a.id = t.account_id where t.id in (%s)";
+    private static final String DELETE_SQL = "delete from transaction where id in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LockProvider lockProvider;
+    private final int chunkSize;
+    private final long graceDays;
+    private final long chunkPauseMs;
+    private final ExecutorService archiveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "transaction-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TransactionArchiver(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            LockProvider lockProvider,
+            @Value("${account.archive.chunk-size:1000}") int chunkSize,
+            @Value("${account.archive.grace-days:1}") long graceDays,
+            @Value("${account.archive.chunk-pause-ms:50}") long chunkPauseMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockProvider = lockProvider;
+        this.chunkSize = chunkSize;
+        this.graceDays = graceDays;
+        this.chunkPauseMs = chunkPauseMs;
+    }
+
+    @Scheduled(cron = "${account.archive.cron:0 0 3 * * *}")
+    public void scheduleArchive() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Previous archive run is still in progress, skipping");
+            return;
+        }
+        archiveExecutor.execute(() -> {
+            try {
+                archive();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        archiveExecutor.shutdownNow();
+    }
+
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now()
+                .minus(TransactionService.CANCEL_WINDOW)
+                .minusDays(graceDays);
+        long total = 0;
+
+        try {
+            int moved;
+            do {
+                moved = archiveChunk(cutoff);
+                total += moved;
+                if (moved > 0 && chunkPauseMs > 0) {
+                    Thread.sleep(chunkPauseMs);
+                }
+            } while (moved == chunkSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("Archived {} transactions before {}", total, cutoff);
+    }
+
+    /**
+     * @return 옮긴 건수 - 다른 노드가 처리 중이면 0
+     */
+    int archiveChunk(LocalDateTime cutoff) throws InterruptedException {
+        if (!lockProvider.tryLock(LOCK_KEY, 0, LOCK_LEASE_SECONDS, TimeUnit.SECONDS)) {
+            log.debug("Archive is running on another node");
+            return 0;
+        }
+
+        try {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = jdbcTemplate.queryForList(
+                        SELECT_IDS_SQL, Long.class, Timestamp.valueOf(cutoff), chunkSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+                List<Object> copyArgs = new ArrayList<>(ids.size() + 1);
+                copyArgs.add(Timestamp.valueOf(LocalDateTime.now()));
+                copyArgs.addAll(ids);
+
+                jdbcTemplate.update(String.format(COPY_SQL, placeholders), copyArgs.toArray());
+                return jdbcTemplate.update(String.format(DELETE_SQL, placeholders), ids.toArray());
+            });
+            return moved == null ? 0 : moved;
+        } finally {
+            lockProvider.unlock(LOCK_KEY);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.dto.TransactionDTO;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import static com.example.accountmanagement.type.ErrorCode.INVALID_REQUEST;
+
+/**
+ * 거래 원장 NDJSON 내보내기
+ * 엔티티를 만들지 않고 forward-only JDBC 커서(fetch-size 단위)로 읽은 행을
+ * 바로 응답 스트림에 쓰므로 건수와 상관없이 메모리 사용량이 일정하다.
+ * 커넥션은 readOnly 트랜잭션(replica) 으로 스트림을 쓰는 동안만 잡는다.
+ * 보관 거래(transaction_archive)를 먼저, 최근 거래(transaction)를 이어서 내보낸다.
+ * 보관 거래는 모두 최근 거래보다 과거이므로 두 결과를 이어 붙여도 순서가 유지된다.
+ * 두 조회는 REPEATABLE_READ 트랜잭션의 같은 스냅샷을 읽으므로,
+ * 그 사이에 TransactionArchiver 가 chunk 를 옮겨도 행이 빠지거나 두 번 나가지 않는다.
+ */
+@Slf4j
+@Service
+public class TransactionExportService {
+    private static final String SELECT_ARCHIVE_SQL =
+            "select t.account_number, t.transaction_type, t.transaction_result_type, t.amount, " +
+            "t.balance_snapshot, t.transaction_id, t.transacted_at " +
+            "from transaction_archive t where 1 = 1";
+    private static final String SELECT_SQL =
+            "select a.account_number, t.transaction_type, t.transaction_result_type, t.amount, " +
+            "t.balance_snapshot, t.transaction_id, t.transacted_at " +
+            "from transaction t join account a on a.id = t.account_id where 1 = 1";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountMetadataCache accountMetadataCache;
+    private final ObjectWriter rowWriter;
+
+    public TransactionExportService(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            AccountMetadataCache accountMetadataCache,
+            ObjectMapper objectMapper,
+            @Value("${account.export.fetch-size:1000}") int fetchSize
+    ) {
+        // 공용 JdbcTemplate 의 설정을 바꾸지 않도록 내보내기 전용 인스턴스를 쓴다.
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.accountMetadataCache = accountMetadataCache;
+        this.rowWriter = objectMapper.writerFor(TransactionDTO.class);
+    }
+
+    /**
+     * 조건 검증과 계좌 확인은 응답을 쓰기 전에 끝낸다. (실패 시 일반 오류 응답을 내려줄 수 있도록)
+     */
+    public ExportQuery prepare(String accountNumber, LocalDateTime from, LocalDateTime to) {
+        if (accountNumber == null && from == null && to == null) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        StringBuilder where = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        if (accountNumber != null) {
+            where.append(" and t.account_id = ?");
+            args.add(accountMetadataCache.get(accountNumber).getId());
+        }
+        if (from != null) {
+            where.append(" and t.transacted_at >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            where.append(" and t.transacted_at < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        // 계좌 단위는 (account_id, transacted_at, id) 인덱스 순서 그대로 읽는다.
+        where.append(accountNumber != null ? " order by t.transacted_at, t.id" : " order by t.id");
+
+        return new ExportQuery(
+                List.of(SELECT_ARCHIVE_SQL + where, SELECT_SQL + where),
+                args.toArray());
+    }
+
+    /**
+     * 한 줄에 거래 하나씩 쓴다. 스트림은 닫지 않는다.
+     * @return 내보낸 거래 수
+     */
+    public long export(ExportQuery query, OutputStream outputStream, boolean gzip) throws IOException {
+        GZIPOutputStream gzipOutputStream = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+        OutputStream out = new BufferedOutputStream(gzip ? gzipOutputStream : outputStream, BUFFER_SIZE);
+        AtomicLong rows = new AtomicLong();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (String sql : query.getSqls()) {
+                    jdbcTemplate.query(sql, rs -> {
+                        writeRow(out, rs);
+                        rows.incrementAndGet();
+                    }, query.getArgs());
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 - 커서와 커넥션은 트랜잭션 종료와 함께 반납된다.
+            throw e.getCause();
+        }
+
+        out.flush();
+        if (gzipOutputStream != null) {
+            gzipOutputStream.finish();
+        }
+        outputStream.flush();
+
+        log.info("Exported {} transactions", rows.get());
+        return rows.get();
+    }
+
+    private void writeRow(OutputStream out, ResultSet rs) throws SQLException {
+        TransactionDTO row = TransactionDTO.builder()
+                .accountNumber(rs.getString(1))
+                .transactionType(TransactionType.valueOf(rs.getString(2)))
+                .transactionResultType(TransactionResultType.valueOf(rs.getString(3)))
+                .amount(rs.getLong(4))
+                .balanceSnapshot(rs.getLong(5))
+                .transactionId(rs.getString(6))
+                .transactedAt(rs.getTimestamp(7).toLocalDateTime())
+                .build();
+
+        try {
+            out.write(rowWriter.writeValueAsBytes(row));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ExportQuery {
+        // 보관 거래, 최근 거래 순서로 실행한다.
+        private final List<String> sqls;
+        private final Object[] args;
+    }
+}
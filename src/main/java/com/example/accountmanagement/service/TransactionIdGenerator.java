@@ -0,0 +1,11 @@
+package com.example.accountmanagement.service;
+
+/**
+ * 거래 번호(transactionId) 생성기
+ * account.transaction.id-generator 설정으로 구현체를 선택한다.
+ * 1. snowflake : 시간순 증가, 노드 구분, 13자리 (기본값)
+ * 2. uuid : 기존 방식의 랜덤 32자리
+ */
+public interface TransactionIdGenerator {
+    String generate();
+}
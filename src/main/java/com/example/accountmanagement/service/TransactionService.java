@@ -1,56 +1,111 @@
 package com.example.accountmanagement.service;
 
+import com.example.accountmanagement.aop.AccountLock;
 import com.example.accountmanagement.domain.Account;
-import com.example.accountmanagement.domain.AccountUser;
 import com.example.accountmanagement.domain.Transaction;
+import com.example.accountmanagement.domain.TransactionArchive;
+import com.example.accountmanagement.dto.AccountMetadata;
+import com.example.accountmanagement.dto.LedgerEntry;
 import com.example.accountmanagement.dto.TransactionDTO;
+import com.example.accountmanagement.dto.TransactionHistory;
+import com.example.accountmanagement.dto.UseBalance;
+import com.example.accountmanagement.dto.UseBalanceBatch;
 import com.example.accountmanagement.exception.AccountException;
 import com.example.accountmanagement.repository.AccountRepository;
 import com.example.accountmanagement.repository.AccountUserRepository;
+import com.example.accountmanagement.repository.TransactionArchiveRepository;
 import com.example.accountmanagement.repository.TransactionRepository;
 import com.example.accountmanagement.type.AccountStatus;
+import com.example.accountmanagement.type.ErrorCode;
 
+import com.example.accountmanagement.type.TransactionMode;
 import com.example.accountmanagement.type.TransactionResultType;
 import com.example.accountmanagement.type.TransactionType;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 import static com.example.accountmanagement.type.ErrorCode.*;
 import static com.example.accountmanagement.type.TransactionResultType.*;
 import static com.example.accountmanagement.type.TransactionType.CANCEL;
 import static com.example.accountmanagement.type.TransactionType.USE;
 
+@Timed("account.service")
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
+    // 이 기간이 지난 거래는 취소할 수 없고, TransactionArchiver 가 보관 테이블로 옮긴다.
+    public static final Period CANCEL_WINDOW = Period.ofYears(1);
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
+    private final TransactionArchiveRepository transactionArchiveRepository;
     private final AccountRepository accountRepository;
     private final AccountUserRepository accountUserRepository;
+    private final LedgerWriter ledgerWriter;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final AccountMetadataCache accountMetadataCache;
+    private final DailyBalanceSnapshotService dailyBalanceSnapshotService;
+
+    @Value("${account.transaction.mode:LOCK}")
+    private TransactionMode transactionMode = TransactionMode.LOCK;
 
+    /**
+     * 소유주 / 상태 검증은 AccountMetadataCache 로 하고, DB 는 잔액 변경에만 사용한다.
+     */
     @Transactional
     public TransactionDTO useBalance(Long userId, String accountNumber, Long amount) {
-        AccountUser user = accountUserRepository.findById(userId)
-                .orElseThrow(() -> new AccountException(USER_NOT_FOUND));
+        AccountMetadata metadata = accountMetadataCache.get(accountNumber);
 
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+        validateAccountOwner(userId, metadata);
 
-        validateUseBalance(user, account, amount);
+        if (transactionMode == TransactionMode.OPTIMISTIC) {
+            validateAmount(amount);
+            Long balance = decreaseBalance(accountNumber, amount);
+            // 계좌는 FK 로만 쓰므로 프록시로 충분하다. (조회하지 않는다)
+            Account account = accountRepository.getReferenceById(metadata.getId());
+            return TransactionDTO.fromEntity(
+                    saveAndGetTransaction(USE, SUCCESS, account, amount, balance), accountNumber);
+        }
 
+        Account account = accountRepository.findById(metadata.getId())
+                .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+        validateUseBalance(userId, account, amount);
         account.useBalance(amount);
 
         return TransactionDTO.fromEntity(saveAndGetTransaction(USE, SUCCESS, account, amount));
     }
 
-    private void validateUseBalance(AccountUser user, Account account, Long amount) {
-        if(!Objects.equals(user.getId(), account.getAccountUser().getId())) {
+    /**
+     * 소유주가 다를 때만 사용자 존재 여부를 확인한다. (findById 는 2차 캐시를 탄다)
+     */
+    private void validateAccountOwner(Long userId, AccountMetadata metadata) {
+        if(!Objects.equals(userId, metadata.getOwnerId())) {
+            if(accountUserRepository.findById(userId).isEmpty()) {
+                throw new AccountException(USER_NOT_FOUND);
+            }
+            throw new AccountException(USER_ACCOUNT_UN_MATCH);
+        }
+        if(metadata.getAccountStatus() != AccountStatus.IN_USE) {
+            throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+        }
+    }
+
+    private void validateUseBalance(Long userId, Account account, Long amount) {
+        if(!Objects.equals(userId, account.getAccountUser().getId())) {
             throw new AccountException(USER_ACCOUNT_UN_MATCH);
         }
         if(account.getAccountStatus() != AccountStatus.IN_USE) {
@@ -61,12 +116,144 @@ public class TransactionService {
         }
     }
 
+    /**
+     * 한 계좌에 대한 여러 건의 잔액 사용을 하나의 DB 트랜잭션으로 처리한다.
+     * 계좌 락은 묶음 단위로 한 번만 잡고(트랜잭션 바깥), 계좌는 한 번만 조회한다.
+     * 건별 검증 실패는 묶음 전체를 롤백하지 않고 FAIL 결과로 돌려준다.
+     * 건별 FAIL 기록은 커밋된 뒤에만 남긴다. 커밋이 실패하면 failUseBalanceGroup 이 건마다 한 번씩 기록한다.
+     * OPTIMISTIC 모드에서는 @Version 이 동시 변경을 막는다.
+     */
+    @AccountLock
     @Transactional
-    public void saveFailedUseTransaction(String accountNumber, Long amount) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+    public List<TransactionDTO> useBalanceGroup(UseBalanceBatch.AccountGroup group) {
+        Account account = accountRepository.findByAccountNumber(group.getAccountNumber())
+                .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+
+        List<TransactionDTO> results = new ArrayList<>(group.getItems().size());
+        List<LedgerEntry> failedEntries = new ArrayList<>();
+        for (UseBalance.Request request : group.getItems()) {
+            try {
+                validateUseBalance(request.getUserId(), account, request.getAmount());
+                account.useBalance(request.getAmount());
+                results.add(TransactionDTO.fromEntity(
+                        saveAndGetTransaction(USE, SUCCESS, account, request.getAmount())));
+            } catch (AccountException e) {
+                LedgerEntry entry = newFailedEntry(USE, group.getAccountNumber(), request.getAmount());
+                failedEntries.add(entry);
+                results.add(toFailedUseBalance(entry, e.getErrorCode()));
+            }
+        }
+        appendAfterCommit(failedEntries);
+        return results;
+    }
+
+    private void appendAfterCommit(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.forEach(ledgerWriter::appendAsync);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.forEach(ledgerWriter::appendAsync);
+            }
+        });
+    }
+
+    /**
+     * 묶음 전체가 실패(락 획득 실패, 계좌 없음 등)했을 때 건별 FAIL 결과를 만든다.
+     */
+    public List<TransactionDTO> failUseBalanceGroup(UseBalanceBatch.AccountGroup group, ErrorCode errorCode) {
+        return group.getItems().stream()
+                .map(request -> failedUseBalance(group.getAccountNumber(), request.getAmount(), errorCode))
+                .toList();
+    }
+
+    private TransactionDTO failedUseBalance(String accountNumber, Long amount, ErrorCode errorCode) {
+        return toFailedUseBalance(saveFailedTransaction(USE, accountNumber, amount), errorCode);
+    }
+
+    private TransactionDTO toFailedUseBalance(LedgerEntry entry, ErrorCode errorCode) {
+        return TransactionDTO.builder()
+                .accountNumber(entry.getAccountNumber())
+                .transactionType(USE)
+                .transactionResultType(FAIL)
+                .amount(entry.getAmount())
+                .transactionId(entry.getTransactionId())
+                .transactedAt(entry.getTransactedAt())
+                .errorCode(errorCode)
+                .build();
+    }
+
+    /**
+     * 락 없이 조건부 UPDATE 로 출금하고, 변경 후 잔액(이 거래의 스냅샷)을 돌려준다.
+     * 잔액 부족 / 해지 여부는 UPDATE 의 WHERE 절에서 판정된다.
+     * 갱신한 행은 트랜잭션이 끝날 때까지 잠겨 있으므로 이어서 읽은 잔액이 곧 이 거래의 결과다.
+     * 실패했을 때만 에러 코드를 고르기 위해 계좌를 조회한다.
+     */
+    private Long decreaseBalance(String accountNumber, Long amount) {
+        if (accountRepository.decreaseBalance(accountNumber, amount) == 0) {
+            Account account = accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+            if (account.getAccountStatus() != AccountStatus.IN_USE) {
+                throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+            }
+            throw new AccountException(AMOUNT_EXCEED_BALANCE);
+        }
+        return findBalance(accountNumber);
+    }
+
+    private Long increaseBalance(String accountNumber, Long amount) {
+        if (accountRepository.increaseBalance(accountNumber, amount) == 0) {
+            throw new AccountException(ACCOUNT_NOT_FOUND);
+        }
+        return findBalance(accountNumber);
+    }
+
+    private Long findBalance(String accountNumber) {
+        return accountRepository.findBalanceByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+    }
 
-        saveAndGetTransaction(USE, FAIL, account, amount);
+    private void validateAmount(Long amount) {
+        if (amount < 0) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+    }
+
+    public void saveFailedUseTransaction(String accountNumber, Long amount) {
+        saveFailedTransaction(USE, accountNumber, amount);
+    }
+
+    /**
+     * 실패 거래는 잔액 변경이 없으므로 LedgerWriter 대기열에 넣고 바로 반환한다.
+     * 요청 스레드(와 계좌 락)는 INSERT 를 기다리지 않고, 기록은 batch 로 모아 저장된다.
+     */
+    private LedgerEntry saveFailedTransaction(
+            TransactionType transactionType,
+            String accountNumber,
+            Long amount) {
+        LedgerEntry entry = newFailedEntry(transactionType, accountNumber, amount);
+        ledgerWriter.appendAsync(entry);
+        return entry;
+    }
+
+    private LedgerEntry newFailedEntry(
+            TransactionType transactionType,
+            String accountNumber,
+            Long amount) {
+        return LedgerEntry.builder()
+                .accountNumber(accountNumber)
+                .transactionType(transactionType)
+                .transactionResultType(FAIL)
+                .amount(amount)
+                .transactionId(transactionIdGenerator.generate())
+                .transactedAt(LocalDateTime.now())
+                .build();
     }
 
     private Transaction saveAndGetTransaction(
@@ -74,17 +261,31 @@ public class TransactionService {
             TransactionResultType transactionResultType,
             Account account,
             Long amount) {
-        return transactionRepository.save(
+        return saveAndGetTransaction(transactionType, transactionResultType, account, amount, account.getBalance());
+    }
+
+    private Transaction saveAndGetTransaction(
+            TransactionType transactionType,
+            TransactionResultType transactionResultType,
+            Account account,
+            Long amount,
+            Long balanceSnapshot) {
+        Transaction transaction = transactionRepository.save(
                 Transaction.builder()
                         .transactionType(transactionType)
                         .transactionResultType(transactionResultType)
                         .account(account)
                         .amount(amount)
-                        .balanceSnapshot(account.getBalance())
-                        .transactionId(UUID.randomUUID().toString().replace("-", ""))
+                        .balanceSnapshot(balanceSnapshot)
+                        .transactionId(transactionIdGenerator.generate())
                         .transactedAt(LocalDateTime.now())
                         .build()
         );
+
+        if (transactionResultType == SUCCESS) {
+            dailyBalanceSnapshotService.record(transaction);
+        }
+        return transaction;
     }
 
     @Transactional
@@ -94,11 +295,22 @@ public class TransactionService {
             Long amount
     ) {
         Transaction transaction = transactionRepository.findByTransactionId(transactionId)
-                .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND));
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+                .orElseThrow(() -> transactionArchiveRepository.existsByTransactionId(transactionId)
+                        ? new AccountException(ORDER_TOO_OLD_TO_CANCEL)
+                        : new AccountException(TRANSACTION_NOT_FOUND));
+        AccountMetadata metadata = accountMetadataCache.get(accountNumber);
+
+        validateCancelBalance(transaction, metadata, amount);
 
-        validateCancelBalance(transaction, account, amount);
+        // 거래의 계좌와 같은 계좌임이 확인되었으므로 다시 조회하지 않는다.
+        Account account = transaction.getAccount();
+
+        if (transactionMode == TransactionMode.OPTIMISTIC) {
+            validateAmount(amount);
+            Long balance = increaseBalance(accountNumber, amount);
+            return TransactionDTO.fromEntity(
+                    saveAndGetTransaction(CANCEL, SUCCESS, account, amount, balance), accountNumber);
+        }
 
         account.cancelBalance(amount);
 
@@ -106,29 +318,91 @@ public class TransactionService {
                 saveAndGetTransaction(CANCEL, SUCCESS, account, amount));
     }
 
-    private void validateCancelBalance(Transaction transaction, Account account, Long amount) {
-        if(!Objects.equals(transaction.getAccount().getId(), account.getId())) {
+    private void validateCancelBalance(Transaction transaction, AccountMetadata metadata, Long amount) {
+        if(!Objects.equals(transaction.getAccount().getId(), metadata.getId())) {
             throw new AccountException(TRANSACTION_ACCOUNT_UN_MATCH);
         }
         if(!Objects.equals(transaction.getAmount(), amount)) {
             throw new AccountException(CANCEL_MUST_FULLY);
         }
-        if(transaction.getTransactedAt().isBefore(LocalDateTime.now().minusYears(1))) {
+        if(transaction.getTransactedAt().isBefore(LocalDateTime.now().minus(CANCEL_WINDOW))) {
             throw new AccountException(ORDER_TOO_OLD_TO_CANCEL);
         }
     }
 
     public void saveFailedCancelTransaction(String accountNumber, Long amount) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
-
-        saveAndGetTransaction(CANCEL, FAIL, account, amount);
+        saveFailedTransaction(CANCEL, accountNumber, amount);
     }
 
+    /**
+     * 최근 거래(transaction)에 없으면 보관 거래(transaction_archive)를 본다.
+     */
+    @Transactional(readOnly = true)
     public TransactionDTO queryTransaction(String transactionId) {
-        return TransactionDTO.fromEntity(
-                transactionRepository.findByTransactionId(transactionId)
-                        .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND))
+        return transactionRepository.findWithAccountByTransactionId(transactionId)
+                .map(TransactionDTO::fromEntity)
+                .orElseGet(() -> transactionArchiveRepository.findByTransactionId(transactionId)
+                        .map(TransactionDTO::fromArchive)
+                        .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND)));
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionHistory.Result getTransactionHistory(
+            String accountNumber,
+            TransactionHistory.Condition condition
+    ) {
+        if (condition.getSize() < 1 || condition.getSize() > MAX_HISTORY_PAGE_SIZE) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        TransactionHistory.Cursor cursor = TransactionHistory.Cursor.decode(condition.getCursor());
+        AccountMetadata metadata = accountMetadataCache.get(accountNumber);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부를 판단한다.
+        int limit = condition.getSize() + 1;
+        List<Transaction> transactions = transactionRepository.findHistory(
+                metadata.getId(),
+                cursor.getTransactedAt(),
+                cursor.getId(),
+                condition.getTransactionType(),
+                condition.getTransactionResultType(),
+                condition.getFrom(),
+                condition.getTo(),
+                Limit.of(limit)
+        );
+        // 최근 거래로 페이지가 다 차지 않으면 보관 거래(모두 최근 거래보다 과거)로 이어서 채운다.
+        List<TransactionArchive> archived = transactions.size() < limit
+                ? transactionArchiveRepository.findHistory(
+                        metadata.getId(),
+                        cursor.getTransactedAt(),
+                        cursor.getId(),
+                        condition.getTransactionType(),
+                        condition.getTransactionResultType(),
+                        condition.getFrom(),
+                        condition.getTo(),
+                        Limit.of(limit - transactions.size()))
+                : List.of();
+
+        List<TransactionDTO> results = new ArrayList<>(transactions.size() + archived.size());
+        List<TransactionHistory.Cursor> cursors = new ArrayList<>(transactions.size() + archived.size());
+        for (Transaction transaction : transactions) {
+            results.add(TransactionDTO.fromEntity(transaction));
+            cursors.add(new TransactionHistory.Cursor(transaction.getTransactedAt(), transaction.getId()));
+        }
+        for (TransactionArchive archive : archived) {
+            results.add(TransactionDTO.fromArchive(archive));
+            cursors.add(new TransactionHistory.Cursor(archive.getTransactedAt(), archive.getId()));
+        }
+
+        String nextCursor = null;
+        if (results.size() > condition.getSize()) {
+            results = results.subList(0, condition.getSize());
+            nextCursor = cursors.get(condition.getSize() - 1).encode();
+        }
+
+        return new TransactionHistory.Result(
+                results,
+                nextCursor
         );
     }
 }
@@ -0,0 +1,74 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.dto.TransactionDTO;
+import com.example.accountmanagement.dto.UseBalance;
+import com.example.accountmanagement.dto.UseBalanceBatch;
+import com.example.accountmanagement.exception.AccountException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+import static com.example.accountmanagement.type.ErrorCode.INTERNAL_SERVER_ERROR;
+
+/**
+ * 잔액 일괄 사용
+ * 요청을 계좌별로 묶어 계좌마다 락 한 번, DB 트랜잭션 한 번으로 처리하고
+ * 결과는 요청 순서대로 돌려준다.
+ * 한 계좌 묶음이 실패해도 다른 묶음에는 영향이 없고, 모든 건에 대해 결과를 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UseBalanceBatchService {
+    private final TransactionService transactionService;
+    private final AccountTaskExecutor accountTaskExecutor;
+
+    public CompletableFuture<List<TransactionDTO>> useBalance(List<UseBalance.Request> requests) {
+        Map<String, List<Integer>> indexesByAccount = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            indexesByAccount
+                    .computeIfAbsent(requests.get(i).getAccountNumber(), key -> new ArrayList<>())
+                    .add(i);
+        }
+
+        TransactionDTO[] results = new TransactionDTO[requests.size()];
+        List<CompletableFuture<Void>> groupFutures = new ArrayList<>(indexesByAccount.size());
+
+        indexesByAccount.forEach((accountNumber, indexes) -> {
+            UseBalanceBatch.AccountGroup group = new UseBalanceBatch.AccountGroup(
+                    accountNumber,
+                    indexes.stream().map(requests::get).toList());
+
+            groupFutures.add(accountTaskExecutor.execute(accountNumber, () -> useBalanceGroup(group))
+                    .thenAccept(groupResults -> {
+                        for (int i = 0; i < indexes.size(); i++) {
+                            results[indexes.get(i)] = groupResults.get(i);
+                        }
+                    }));
+        });
+
+        return CompletableFuture.allOf(groupFutures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> Arrays.asList(results));
+    }
+
+    private List<TransactionDTO> useBalanceGroup(UseBalanceBatch.AccountGroup group) {
+        try {
+            return transactionService.useBalanceGroup(group);
+        } catch (AccountException e) {
+            log.error("Failed to use balance for batch group of accountNumber : {}", group.getAccountNumber());
+
+            return transactionService.failUseBalanceGroup(group, e.getErrorCode());
+        } catch (RuntimeException e) {
+            // 커밋 시점의 @Version 충돌, DB 오류 등도 묶음 단위로 실패 처리해 다른 계좌 결과는 그대로 돌려준다.
+            log.error("Failed to use balance for batch group of accountNumber : {}", group.getAccountNumber(), e);
+
+            return transactionService.failUseBalanceGroup(group,
+                    e instanceof OptimisticLockingFailureException ? ACCOUNT_TRANSACTION_LOCK : INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -19,7 +19,8 @@ public enum ErrorCode {
     TRANSACTION_ACCOUNT_UN_MATCH("거래한 계좌가 해당 계좌의 소유주랑 다릅니다."),
     CANCEL_MUST_FULLY("부분 취소 허용되지 않습니다."),
     ORDER_TOO_OLD_TO_CANCEL("1년이 지난 거래는 취소가 불가능합니다."),
-    TRANSACTION_NOT_FOUND("해당 거래가 없습니다");
+    TRANSACTION_NOT_FOUND("해당 거래가 없습니다"),
+    IDEMPOTENCY_KEY_IN_PROGRESS("같은 Idempotency-Key 의 요청이 처리 중입니다.");
 
     private final String description;
 }
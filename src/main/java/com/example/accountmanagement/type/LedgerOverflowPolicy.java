@@ -0,0 +1,10 @@
+package com.example.accountmanagement.type;
+
+/**
+ * 원장 대기열이 가득 찼을 때의 처리 방식 (비동기 기록 전용)
+ * DROP : 기록을 버리고 account.ledger.dropped 카운터 증가
+ * BLOCK : 대기열에 자리가 날 때까지 호출 스레드를 대기시킴 (backpressure)
+ */
+public enum LedgerOverflowPolicy {
+    DROP, BLOCK
+}
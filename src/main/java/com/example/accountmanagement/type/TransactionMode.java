@@ -0,0 +1,12 @@
+package com.example.accountmanagement.type;
+
+/**
+ * 잔액 변경 실행 방식
+ * LOCK : 계좌 락(@AccountLock) 획득 후 엔티티 변경
+ * OPTIMISTIC : 락 없이 조건부 UPDATE 한 번으로 DB 가 경합을 판정
+ * SHARDED : 계좌 번호 해시로 정해진 단일 스레드 shard 에서 순차 처리 (단일 노드)
+ * ASYNC : LOCK 과 같지만 락 대기 중 요청 스레드를 반환하고, 락을 얻으면 작업 풀에서 이어서 처리 (redisson 락 전용)
+ */
+public enum TransactionMode {
+    LOCK, OPTIMISTIC, SHARDED, ASYNC
+}
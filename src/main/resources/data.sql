@@ -3,4 +3,15 @@ insert into account_user(id, name, created_at, updated_at) values
 (2, 'Nami', now(), now()),
 (3, 'Ezreal', now(), now()),
 (4, 'Vayne', now(), now()),
-(5, 'Teemo', now(), now());
\ No newline at end of file
+(5, 'Teemo', now(), now());
+
+-- per-user account count (kept apart from the cached account_user rows)
+insert into account_count(account_user_id, account_count) values
+(1, 0), (2, 0), (3, 0), (4, 0), (5, 0);
+
+-- account numbers are reserved in blocks (increment must match account.number.block-size)
+create sequence if not exists account_number_seq start with 1000000000 increment by 100;
+
+-- replica lag heartbeat (written on the primary, read on the replica)
+create table if not exists replica_heartbeat (id int primary key, beat_at_ms bigint not null);
+merge into replica_heartbeat(id, beat_at_ms) key(id) values (1, 0);
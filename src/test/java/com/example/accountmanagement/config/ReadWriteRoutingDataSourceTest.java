@@ -0,0 +1,61 @@
+package com.example.accountmanagement.config;
+
+import com.example.accountmanagement.service.ReplicaLagMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @InjectMocks
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica 로")
+    void readOnlyGoesToReplica() {
+        //given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.isReplicaUsable()).willReturn(true);
+
+        //when
+        //then
+        assertEquals(ReadWriteRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("replica 지연이 크면 readOnly 트랜잭션도 primary 로")
+    void laggingReplicaFallsBackToPrimary() {
+        //given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.isReplicaUsable()).willReturn(false);
+
+        //when
+        //then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary 로")
+    void writeGoesToPrimary() {
+        //given
+        //when
+        //then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+}
@@ -5,6 +5,8 @@ import com.example.accountmanagement.dto.CreateAccount;
 import com.example.accountmanagement.dto.DeleteAccount;
 import com.example.accountmanagement.exception.AccountException;
 import com.example.accountmanagement.service.AccountService;
+import com.example.accountmanagement.service.DailyBalanceSnapshotService;
+import com.example.accountmanagement.service.ErrorCodeMetrics;
 import com.example.accountmanagement.type.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -33,6 +35,12 @@ public class AccountControllerTest {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private DailyBalanceSnapshotService dailyBalanceSnapshotService;
+
+    @MockBean
+    private ErrorCodeMetrics errorCodeMetrics;
+
     @Autowired
     private MockMvc mockMvc;
 
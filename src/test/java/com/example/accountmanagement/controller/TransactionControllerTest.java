@@ -3,8 +3,15 @@ package com.example.accountmanagement.controller;
 import com.example.accountmanagement.dto.AccountDTO;
 import com.example.accountmanagement.dto.CancelBalance;
 import com.example.accountmanagement.dto.TransactionDTO;
+import com.example.accountmanagement.dto.TransactionHistory;
 import com.example.accountmanagement.dto.UseBalance;
+import com.example.accountmanagement.dto.UseBalanceBatch;
+import com.example.accountmanagement.service.AccountTaskExecutor;
+import com.example.accountmanagement.service.ErrorCodeMetrics;
+import com.example.accountmanagement.service.TransactionExportService;
 import com.example.accountmanagement.service.TransactionService;
+import com.example.accountmanagement.service.UseBalanceBatchService;
+import com.example.accountmanagement.type.ErrorCode;
 import com.example.accountmanagement.type.TransactionResultType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -12,29 +19,45 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.example.accountmanagement.type.TransactionType.USE;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TransactionController.class)
+@Import(AccountTaskExecutor.class)
 public class TransactionControllerTest {
     @MockBean
     private TransactionService transactionService;
 
+    @MockBean
+    private UseBalanceBatchService useBalanceBatchService;
+
+    @MockBean
+    private TransactionExportService transactionExportService;
+
+    @MockBean
+    private ErrorCodeMetrics errorCodeMetrics;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -55,12 +78,16 @@ public class TransactionControllerTest {
         //when
 
         //then
-        mockMvc.perform(post("/transaction/use")
+        MvcResult mvcResult = mockMvc.perform(post("/transaction/use")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(
                         new UseBalance.Request(1L, "2000000000", 3000L)
                 ))
-        ).andDo(print())
+        ).andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accountNumber").value("1000000000"))
                 .andExpect(jsonPath("$.transactionResult").value("SUCCESS"))
@@ -68,6 +95,48 @@ public class TransactionControllerTest {
                 .andExpect(jsonPath("$.amount").value(12345L));
     }
 
+    @Test
+    void successUseBalanceBatch() throws Exception {
+        //given
+        given(useBalanceBatchService.useBalance(any()))
+                .willReturn(CompletableFuture.completedFuture(List.of(
+                        TransactionDTO.builder()
+                                .accountNumber("1000000000")
+                                .transactedAt(LocalDateTime.now())
+                                .amount(3000L)
+                                .transactionId("transactionId")
+                                .transactionResultType(TransactionResultType.SUCCESS)
+                                .build(),
+                        TransactionDTO.builder()
+                                .accountNumber("1000000001")
+                                .transactedAt(LocalDateTime.now())
+                                .amount(5000L)
+                                .transactionId("failedTransactionId")
+                                .transactionResultType(TransactionResultType.FAIL)
+                                .errorCode(ErrorCode.AMOUNT_EXCEED_BALANCE)
+                                .build())));
+        //when
+
+        //then
+        MvcResult mvcResult = mockMvc.perform(post("/transaction/use/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalanceBatch.Request(List.of(
+                                        new UseBalance.Request(1L, "1000000000", 3000L),
+                                        new UseBalance.Request(1L, "1000000001", 5000L)))
+                        ))
+                ).andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].transactionResult").value("SUCCESS"))
+                .andExpect(jsonPath("$.results[0].transactionId").value("transactionId"))
+                .andExpect(jsonPath("$.results[1].transactionResult").value("FAIL"))
+                .andExpect(jsonPath("$.results[1].errorCode").value("AMOUNT_EXCEED_BALANCE"));
+    }
+
     @Test
     void successCancelBalance() throws Exception {
         //given
@@ -82,12 +151,16 @@ public class TransactionControllerTest {
         //when
 
         //then
-        mockMvc.perform(post("/transaction/cancel")
+        MvcResult mvcResult = mockMvc.perform(post("/transaction/cancel")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(
                                 new CancelBalance.Request("transactionId", "2000000000", 3000L)
                         ))
-                ).andDo(print())
+                ).andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accountNumber").value("1000000000"))
                 .andExpect(jsonPath("$.transactionResult").value("SUCCESS"))
@@ -118,4 +191,28 @@ public class TransactionControllerTest {
                 .andExpect(jsonPath("$.amount").value(54321L));
 
     }
+
+    @Test
+    void successGetTransactionHistory() throws Exception {
+        //given
+        given(transactionService.getTransactionHistory(anyString(), any()))
+                .willReturn(new TransactionHistory.Result(
+                        List.of(TransactionDTO.builder()
+                                .accountNumber("1000000000")
+                                .transactionType(USE)
+                                .transactedAt(LocalDateTime.now())
+                                .amount(54321L)
+                                .transactionId("transactionId")
+                                .transactionResultType(TransactionResultType.SUCCESS)
+                                .build()),
+                        "nextCursor"));
+
+        mockMvc.perform(get("/account/1000000000/transactions?transaction_type=USE&size=1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions[0].transactionId").value("transactionId"))
+                .andExpect(jsonPath("$.transactions[0].amount").value(54321L))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
 }
@@ -0,0 +1,95 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.dto.AccountMetadata;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.Optional;
+
+import static com.example.accountmanagement.type.AccountStatus.IN_USE;
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountMetadataCacheTest {
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic topic;
+
+    private AccountMetadataCache accountMetadataCache;
+
+    @BeforeEach
+    void setUp() {
+        accountMetadataCache = new AccountMetadataCache(accountRepository, redissonClient, 100, 600);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB 를 조회하지 않는다")
+    void getCachesMetadata() {
+        //given
+        given(accountRepository.findMetadataByAccountNumber("1000000012"))
+                .willReturn(Optional.of(new AccountMetadata(1L, 12L, IN_USE)));
+
+        //when
+        accountMetadataCache.get("1000000012");
+        AccountMetadata metadata = accountMetadataCache.get("1000000012");
+
+        //then
+        assertEquals(12L, metadata.getOwnerId());
+        verify(accountRepository, times(1)).findMetadataByAccountNumber("1000000012");
+    }
+
+    @Test
+    @DisplayName("없는 계좌는 캐시하지 않는다")
+    void getAccountNotFound() {
+        //given
+        given(accountRepository.findMetadataByAccountNumber("1000000012"))
+                .willReturn(Optional.empty());
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountMetadataCache.get("1000000012"));
+        assertThrows(AccountException.class, () -> accountMetadataCache.get("1000000012"));
+
+        //then
+        assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
+        verify(accountRepository, times(2)).findMetadataByAccountNumber("1000000012");
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 노드에 알리고 다시 DB 에서 읽는다")
+    void evictPublishesInvalidation() {
+        //given
+        given(accountRepository.findMetadataByAccountNumber("1000000012"))
+                .willReturn(Optional.of(new AccountMetadata(1L, 12L, IN_USE)));
+        given(redissonClient.getTopic(AccountMetadataCache.INVALIDATION_TOPIC, StringCodec.INSTANCE))
+                .willReturn(topic);
+        accountMetadataCache.get("1000000012");
+
+        //when
+        accountMetadataCache.evictAfterCommit("1000000012");
+        accountMetadataCache.get("1000000012");
+
+        //then
+        verify(topic, times(1)).publishAsync("1000000012");
+        verify(accountRepository, times(2)).findMetadataByAccountNumber("1000000012");
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.accountmanagement.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberAllocatorTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private EmbeddedDatabase dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void allocateFromReservedBlocks() {
+        //given
+        AccountNumberAllocator allocator = new AccountNumberAllocator(jdbcTemplate, 3L);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .willReturn(1000000000L, 1000000003L);
+
+        //when
+        //then
+        assertEquals("1000000000", allocator.allocate());
+        assertEquals("1000000001", allocator.allocate());
+        assertEquals("1000000002", allocator.allocate());
+        assertEquals("1000000003", allocator.allocate());
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+    }
+
+    @Test
+    void allocateBeyondIntegerRange() {
+        //given
+        AccountNumberAllocator allocator = new AccountNumberAllocator(jdbcTemplate, 100L);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .willReturn(2147483647L);
+
+        //when
+        allocator.allocate();
+
+        //then
+        assertEquals("2147483648", allocator.allocate());
+    }
+
+    @Test
+    @DisplayName("시퀀스 increment 가 block-size 와 같으면 기동")
+    void verifySequenceIncrement() {
+        //given
+        JdbcTemplate h2 = new JdbcTemplate(dataSource);
+        h2.execute("create sequence account_number_seq start with 1000000000 increment by 100");
+        AccountNumberAllocator allocator = new AccountNumberAllocator(h2, 100L);
+
+        //when
+        //then
+        assertDoesNotThrow(allocator::verifySequenceIncrement);
+        assertEquals("1000000000", allocator.allocate());
+    }
+
+    @Test
+    @DisplayName("시퀀스 increment 가 block-size 와 다르면 기동 실패")
+    void failWhenSequenceIncrementDiffersFromBlockSize() {
+        //given
+        JdbcTemplate h2 = new JdbcTemplate(dataSource);
+        h2.execute("create sequence account_number_seq start with 1000000000 increment by 50");
+        AccountNumberAllocator allocator = new AccountNumberAllocator(h2, 100L);
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class, allocator::verifySequenceIncrement);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 없으면 기동 실패")
+    void failWhenSequenceMissing() {
+        //given
+        AccountNumberAllocator allocator = new AccountNumberAllocator(new JdbcTemplate(dataSource), 100L);
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class, allocator::verifySequenceIncrement);
+    }
+}
@@ -4,7 +4,9 @@ import com.example.accountmanagement.domain.Account;
 import com.example.accountmanagement.type.AccountStatus;
 import com.example.accountmanagement.domain.AccountUser;
 import com.example.accountmanagement.dto.AccountDTO;
+import com.example.accountmanagement.dto.AccountSummary;
 import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.repository.AccountCountRepository;
 import com.example.accountmanagement.repository.AccountRepository;
 
 import com.example.accountmanagement.repository.AccountUserRepository;
@@ -25,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -38,6 +41,15 @@ class AccountServiceTest {
     @Mock
     private AccountUserRepository accountUserRepository;
 
+    @Mock
+    private AccountCountRepository accountCountRepository;
+
+    @Mock
+    private AccountNumberAllocator accountNumberAllocator;
+
+    @Mock
+    private AccountMetadataCache accountMetadataCache;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -50,9 +62,10 @@ class AccountServiceTest {
 
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(user));
-        given(accountRepository.findFirstByOrderByIdDesc())
-                .willReturn(Optional.of(Account.builder()
-                                .accountNumber("1000000012").build()));
+        given(accountCountRepository.increaseAccountCount(any(), anyInt()))
+                .willReturn(1);
+        given(accountNumberAllocator.allocate())
+                .willReturn("1000000013");
         given(accountRepository.save(any()))
                 .willReturn(Account.builder()
                         .accountUser(user)
@@ -77,9 +90,10 @@ class AccountServiceTest {
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(AccountUser.builder()
                         .name("Pobi").build()));
-        given(accountRepository.findFirstByOrderByIdDesc())
-                .willReturn(Optional.of(Account.builder()
-                        .accountNumber("1000000012").build()));
+        given(accountCountRepository.increaseAccountCount(any(), anyInt()))
+                .willReturn(1);
+        given(accountNumberAllocator.allocate())
+                .willReturn("1000000000");
         given(accountRepository.save(any()))
                 .willReturn(Account.builder()
                         .accountUser(user)
@@ -92,7 +106,7 @@ class AccountServiceTest {
         //then
         verify(accountRepository, times(1)).save(captor.capture());
         assertEquals(15L, accountDTO.getUserId());
-        assertEquals("1000000013", captor.getValue().getAccountNumber());
+        assertEquals("1000000000", captor.getValue().getAccountNumber());
     }
 
     @Test
@@ -119,8 +133,8 @@ class AccountServiceTest {
         user.setId(15L);
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(user));
-        given(accountRepository.countByAccountUser(any()))
-                .willReturn(10);
+        given(accountCountRepository.increaseAccountCount(15L, 10))
+                .willReturn(0);
 
         //when
         AccountException exception = assertThrows(AccountException.class,
@@ -128,6 +142,7 @@ class AccountServiceTest {
 
         //then
         assertEquals(ErrorCode.MAX_ACCOUNT_PER_USER_10, exception.getErrorCode());
+        verify(accountRepository, never()).save(any());
     }
 
     @Test
@@ -153,6 +168,8 @@ class AccountServiceTest {
         assertEquals(12L, accountDTO.getUserId());
         assertEquals("1000000012", captor.getValue().getAccountNumber());
         assertEquals(AccountStatus.UNREGISTERED, captor.getValue().getAccountStatus());
+        verify(accountCountRepository, times(1)).decreaseAccountCount(12L);
+        verify(accountMetadataCache, times(1)).evictAfterCommit("1234567890");
     }
 
     @Test
@@ -272,27 +289,15 @@ class AccountServiceTest {
                 .name("Mark").build();
         user.setId(1L);
 
-        List<Account> accounts = Arrays.asList(
-                Account.builder()
-                        .accountUser(user)
-                        .accountNumber("111111111")
-                        .balance(1000L)
-                        .build(),
-                Account.builder()
-                        .accountUser(user)
-                        .accountNumber("1234567890")
-                        .balance(2000L)
-                        .build(),
-                Account.builder()
-                        .accountUser(user)
-                        .accountNumber("2222222222")
-                        .balance(3000L)
-                        .build()
+        List<AccountSummary> accounts = Arrays.asList(
+                new AccountSummary("111111111", 1000L, null, null),
+                new AccountSummary("1234567890", 2000L, null, null),
+                new AccountSummary("2222222222", 3000L, null, null)
         );
 
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(user));
-        given(accountRepository.findByAccountUser(any()))
+        given(accountRepository.findByAccountUser_Id(1L))
                 .willReturn(accounts);
 
         //when
@@ -306,6 +311,7 @@ class AccountServiceTest {
         assertEquals(2000L, accountDTOS.get(1).getBalance());
         assertEquals("2222222222", accountDTOS.get(2).getAccountNumber());
         assertEquals(3000L, accountDTOS.get(2).getBalance());
+        assertEquals(1L, accountDTOS.get(0).getUserId());
     }
 
     @Test
@@ -0,0 +1,61 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.TransactionMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static com.example.accountmanagement.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountTaskExecutorTest {
+
+    @Test
+    void runInlineWhenNotSharded() {
+        //given
+        AccountTaskExecutor executor = new AccountTaskExecutor(TransactionMode.LOCK, 4, 10);
+        String caller = Thread.currentThread().getName();
+
+        //when
+        CompletableFuture<String> future = executor.execute("1000000000",
+                () -> Thread.currentThread().getName());
+
+        //then
+        assertTrue(future.isDone());
+        assertEquals(caller, future.join());
+    }
+
+    @Test
+    void sameAccountRunsOnSameShardThread() throws Exception {
+        //given
+        AccountTaskExecutor executor = new AccountTaskExecutor(TransactionMode.SHARDED, 4, 10);
+
+        //when
+        String first = executor.execute("1000000000", () -> Thread.currentThread().getName()).get();
+        String second = executor.execute("1000000000", () -> Thread.currentThread().getName()).get();
+
+        //then
+        assertTrue(first.startsWith("account-shard-"));
+        assertEquals(first, second);
+        executor.shutdown();
+    }
+
+    @Test
+    void failedTaskCompletesExceptionally() {
+        //given
+        AccountTaskExecutor executor = new AccountTaskExecutor(TransactionMode.SHARDED, 2, 10);
+
+        //when
+        CompletableFuture<Object> future = executor.execute("1000000000", () -> {
+            throw new AccountException(AMOUNT_EXCEED_BALANCE);
+        });
+
+        //then
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertEquals(AMOUNT_EXCEED_BALANCE,
+                ((AccountException) exception.getCause()).getErrorCode());
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.type.TransactionMode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.beans.factory.ObjectProvider;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ASYNC 모드 락 소유자가 같은 JVM 의 블로킹 락 호출자와 겹치지 않는지 실제 Redis 로 확인한다.
+ */
+class AsyncLockExecutorRedisTest {
+    private static final String ACCOUNT_NUMBER = "1000000000";
+
+    private static RedisServer redisServer;
+    private static RedissonClient redissonClient;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://127.0.0.1:" + port);
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redissonClient.shutdown();
+        redisServer.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void asyncOwnerIsNotReentrantForBlockingCaller() throws Exception {
+        //given
+        AtomicLong ownerId = new AtomicLong();
+        RedissonLockProvider lockProvider = new RedissonLockProvider(redissonClient) {
+            @Override
+            public CompletableFuture<Boolean> tryLockAsync(
+                    String lockKey, long id, long waitTime, long leaseTime, TimeUnit unit) {
+                ownerId.set(id);
+                return super.tryLockAsync(lockKey, id, waitTime, leaseTime, unit);
+            }
+        };
+        ObjectProvider<AsyncLockProvider> asyncLockProviders = mock(ObjectProvider.class);
+        given(asyncLockProviders.getIfAvailable()).willReturn(lockProvider);
+        AsyncLockExecutor executor = new AsyncLockExecutor(asyncLockProviders,
+                mock(LockContentionMonitor.class), TransactionMode.ASYNC, 1000, 15000, 1, 10);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> future = executor.execute(ACCOUNT_NUMBER, () -> {
+            locked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CompletableFuture.completedFuture("ok");
+        });
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        String lockKey = LockService.getLockKey(ACCOUNT_NUMBER);
+        RLock lock = redissonClient.getLock(lockKey);
+
+        //when
+        boolean blockingLocked = lockProvider.tryLock(lockKey, 0, 15000, TimeUnit.MILLISECONDS);
+        lockProvider.unlock(lockKey);
+
+        //then
+        // 실제 스레드 id 는 양수이므로 어떤 블로킹 호출자도 ASYNC 소유자로 보이지 않는다.
+        assertTrue(ownerId.get() < 0);
+        assertFalse(blockingLocked);
+        for (long threadId = 1; threadId <= 1000; threadId++) {
+            assertFalse(lock.tryLockAsync(0, 15000, TimeUnit.MILLISECONDS, threadId).get(),
+                    "re-entered as thread " + threadId);
+        }
+        assertTrue(lock.isLocked());
+
+        release.countDown();
+        assertEquals("ok", future.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.TransactionMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncLockExecutorTest {
+    @Mock
+    private AsyncLockProvider lockProvider;
+
+    @Mock
+    private ObjectProvider<AsyncLockProvider> asyncLockProviders;
+
+    @Mock
+    private LockContentionMonitor lockContentionMonitor;
+
+    private AsyncLockExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        given(asyncLockProviders.getIfAvailable()).willReturn(lockProvider);
+        executor = new AsyncLockExecutor(asyncLockProviders, lockContentionMonitor,
+                TransactionMode.ASYNC, 1000, 15000, 2, 10);
+    }
+
+    @Test
+    void runOnWorkerAfterLockAndUnlock() throws Exception {
+        //given
+        CompletableFuture<Boolean> lock = new CompletableFuture<>();
+        given(lockProvider.tryLockAsync(eq("ACLK:1000000000"), anyLong(), anyLong(), anyLong(), any()))
+                .willReturn(lock);
+        given(lockProvider.unlockAsync(eq("ACLK:1000000000"), anyLong()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        //when
+        CompletableFuture<String> future = executor.execute("1000000000",
+                () -> CompletableFuture.completedFuture(Thread.currentThread().getName()));
+
+        //then
+        // 락을 얻기 전에는 아무 스레드도 작업을 잡고 있지 않다.
+        assertFalse(future.isDone());
+        lock.complete(true);
+        assertTrue(future.get(1, TimeUnit.SECONDS).startsWith("account-async-lock-"));
+        verify(lockProvider, timeout(1000)).unlockAsync(eq("ACLK:1000000000"), anyLong());
+    }
+
+    @Test
+    void lockFailureSkipsTask() {
+        //given
+        given(lockProvider.tryLockAsync(eq("ACLK:1000000000"), anyLong(), anyLong(), anyLong(), any()))
+                .willReturn(CompletableFuture.completedFuture(false));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        //when
+        CompletableFuture<String> future = executor.execute("1000000000", () -> {
+            ran.set(true);
+            return CompletableFuture.completedFuture("ok");
+        });
+
+        //then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertEquals(ACCOUNT_TRANSACTION_LOCK, ((AccountException) exception.getCause()).getErrorCode());
+        assertFalse(ran.get());
+        verify(lockContentionMonitor, times(1)).lockFailed(eq("1000000000"), anyLong());
+        verify(lockProvider, times(0)).unlockAsync(any(), anyLong());
+    }
+
+    @Test
+    void taskFailureStillUnlocks() {
+        //given
+        given(lockProvider.tryLockAsync(eq("ACLK:1000000000"), anyLong(), anyLong(), anyLong(), any()))
+                .willReturn(CompletableFuture.completedFuture(true));
+        given(lockProvider.unlockAsync(eq("ACLK:1000000000"), anyLong()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        //when
+        CompletableFuture<String> future = executor.execute("1000000000", () -> {
+            throw new AccountException(ACCOUNT_TRANSACTION_LOCK);
+        });
+
+        //then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(AccountException.class, exception.getCause());
+        verify(lockProvider, timeout(1000)).unlockAsync(eq("ACLK:1000000000"), anyLong());
+    }
+
+    @Test
+    void redisErrorRunsTaskWithoutUnlock() throws Exception {
+        //given
+        given(lockProvider.tryLockAsync(eq("ACLK:1000000000"), anyLong(), anyLong(), anyLong(), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("redis down")));
+
+        //when
+        CompletableFuture<String> future = executor.execute("1000000000",
+                () -> CompletableFuture.completedFuture("ok"));
+
+        //then
+        assertEquals("ok", future.get(1, TimeUnit.SECONDS));
+        verify(lockProvider, times(0)).unlockAsync(any(), anyLong());
+    }
+
+    @Test
+    void rejectWhenProviderIsNotAsync() {
+        //given
+        willReturn(null).given(asyncLockProviders).getIfAvailable();
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class, () -> new AsyncLockExecutor(
+                asyncLockProviders, lockContentionMonitor, TransactionMode.ASYNC, 1000, 15000, 2, 10));
+    }
+}
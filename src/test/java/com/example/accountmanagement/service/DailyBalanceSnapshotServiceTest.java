@@ -0,0 +1,178 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.domain.Account;
+import com.example.accountmanagement.domain.DailyBalanceSnapshot;
+import com.example.accountmanagement.domain.Transaction;
+import com.example.accountmanagement.dto.AccountMetadata;
+import com.example.accountmanagement.dto.Statement;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.repository.AccountRepository;
+import com.example.accountmanagement.repository.DailyBalanceSnapshotRepository;
+import com.example.accountmanagement.type.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.accountmanagement.type.AccountStatus.IN_USE;
+import static com.example.accountmanagement.type.ErrorCode.INVALID_REQUEST;
+import static com.example.accountmanagement.type.TransactionResultType.SUCCESS;
+import static com.example.accountmanagement.type.TransactionType.CANCEL;
+import static com.example.accountmanagement.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DailyBalanceSnapshotServiceTest {
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+    @Mock
+    private DailyBalanceSnapshotRepository dailyBalanceSnapshotRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountMetadataCache accountMetadataCache;
+
+    @InjectMocks
+    private DailyBalanceSnapshotService dailyBalanceSnapshotService;
+
+    @Test
+    @DisplayName("그날 첫 거래는 스냅샷을 새로 만든다")
+    void recordFirstTransactionOfDay() {
+        //given
+        given(dailyBalanceSnapshotRepository.accumulate(1L, DAY, 200L, 0L, 9800L))
+                .willReturn(0);
+        ArgumentCaptor<DailyBalanceSnapshot> captor = ArgumentCaptor.forClass(DailyBalanceSnapshot.class);
+
+        //when
+        dailyBalanceSnapshotService.record(transaction(USE, 200L, 9800L));
+
+        //then
+        verify(dailyBalanceSnapshotRepository, times(1)).save(captor.capture());
+        assertEquals(10000L, captor.getValue().getOpeningBalance());
+        assertEquals(200L, captor.getValue().getDebitAmount());
+        assertEquals(0L, captor.getValue().getCreditAmount());
+        assertEquals(9800L, captor.getValue().getClosingBalance());
+        assertEquals(1L, captor.getValue().getTransactionCount());
+    }
+
+    @Test
+    @DisplayName("이미 스냅샷이 있으면 누적만 한다")
+    void recordAccumulates() {
+        //given
+        given(dailyBalanceSnapshotRepository.accumulate(1L, DAY, 0L, 200L, 10000L))
+                .willReturn(1);
+
+        //when
+        dailyBalanceSnapshotService.record(transaction(CANCEL, 200L, 10000L));
+
+        //then
+        verify(dailyBalanceSnapshotRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("명세 - 기간 전 스냅샷의 마감 잔액이 시작 잔액")
+    void getStatement() {
+        //given
+        given(accountMetadataCache.get("1000000012"))
+                .willReturn(new AccountMetadata(1L, 12L, IN_USE));
+        given(dailyBalanceSnapshotRepository.findByAccountIdAndSnapshotDateBetweenOrderBySnapshotDate(
+                1L, DAY, DAY.plusDays(2)))
+                .willReturn(List.of(
+                        snapshot(DAY, 9000L, 500L, 0L, 8500L, 2L),
+                        snapshot(DAY.plusDays(2), 8500L, 100L, 300L, 8700L, 3L)));
+        given(dailyBalanceSnapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(1L, DAY))
+                .willReturn(Optional.of(snapshot(DAY.minusDays(5), 9500L, 500L, 0L, 9000L, 1L)));
+
+        //when
+        Statement.Response statement = dailyBalanceSnapshotService.getStatement("1000000012", DAY, DAY.plusDays(2));
+
+        //then
+        assertEquals(9000L, statement.getOpeningBalance());
+        assertEquals(8700L, statement.getClosingBalance());
+        assertEquals(600L, statement.getDebitAmount());
+        assertEquals(300L, statement.getCreditAmount());
+        assertEquals(5L, statement.getTransactionCount());
+        assertEquals(2, statement.getDays().size());
+    }
+
+    @Test
+    @DisplayName("명세 - 기간 이후 거래가 없으면 현재 잔액")
+    void getStatementWithoutAnySnapshot() {
+        //given
+        Account account = Account.builder()
+                .balance(7000L)
+                .accountNumber("1000000012").build();
+        given(accountMetadataCache.get("1000000012"))
+                .willReturn(new AccountMetadata(1L, 12L, IN_USE));
+        given(dailyBalanceSnapshotRepository.findByAccountIdAndSnapshotDateBetweenOrderBySnapshotDate(1L, DAY, DAY))
+                .willReturn(List.of());
+        given(dailyBalanceSnapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(1L, DAY))
+                .willReturn(Optional.empty());
+        given(dailyBalanceSnapshotRepository.findFirstByAccountIdAndSnapshotDateGreaterThanOrderBySnapshotDate(1L, DAY))
+                .willReturn(Optional.empty());
+        given(accountRepository.findById(1L))
+                .willReturn(Optional.of(account));
+
+        //when
+        Statement.Response statement = dailyBalanceSnapshotService.getStatement("1000000012", DAY, DAY);
+
+        //then
+        assertEquals(7000L, statement.getOpeningBalance());
+        assertEquals(7000L, statement.getClosingBalance());
+        assertEquals(0L, statement.getTransactionCount());
+    }
+
+    @Test
+    @DisplayName("명세 - 시작일이 종료일보다 늦으면 실패")
+    void getStatementInvalidRange() {
+        //given
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> dailyBalanceSnapshotService.getStatement("1000000012", DAY, DAY.minusDays(1)));
+
+        //then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+    }
+
+    private Transaction transaction(TransactionType type, Long amount, Long balanceSnapshot) {
+        Account account = Account.builder()
+                .accountNumber("1000000012").build();
+        account.setId(1L);
+        return Transaction.builder()
+                .account(account)
+                .transactionType(type)
+                .transactionResultType(SUCCESS)
+                .amount(amount)
+                .balanceSnapshot(balanceSnapshot)
+                .transactionId("transactionId")
+                .transactedAt(DAY.atTime(10, 0))
+                .build();
+    }
+
+    private DailyBalanceSnapshot snapshot(LocalDate date, Long opening, Long debit, Long credit, Long closing, Long count) {
+        return DailyBalanceSnapshot.builder()
+                .accountId(1L)
+                .snapshotDate(date)
+                .openingBalance(opening)
+                .debitAmount(debit)
+                .creditAmount(credit)
+                .closingBalance(closing)
+                .transactionCount(count)
+                .build();
+    }
+}
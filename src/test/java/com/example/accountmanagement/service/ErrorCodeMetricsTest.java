@@ -0,0 +1,29 @@
+package com.example.accountmanagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+import static com.example.accountmanagement.type.ErrorCode.USER_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ErrorCodeMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ErrorCodeMetrics errorCodeMetrics = new ErrorCodeMetrics(meterRegistry);
+
+    @Test
+    void countPerErrorCode() {
+        //when
+        errorCodeMetrics.increment(ACCOUNT_TRANSACTION_LOCK);
+        errorCodeMetrics.increment(ACCOUNT_TRANSACTION_LOCK);
+        errorCodeMetrics.increment(USER_NOT_FOUND);
+
+        //then
+        assertEquals(2.0, meterRegistry.get("account.errors")
+                .tag("error_code", "ACCOUNT_TRANSACTION_LOCK").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.errors")
+                .tag("error_code", "USER_NOT_FOUND").counter().count());
+        assertEquals(0.0, meterRegistry.get("account.errors")
+                .tag("error_code", "INVALID_REQUEST").counter().count());
+    }
+}
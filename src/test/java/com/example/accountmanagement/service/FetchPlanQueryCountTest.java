@@ -0,0 +1,138 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.domain.Account;
+import com.example.accountmanagement.domain.AccountUser;
+import com.example.accountmanagement.dto.AccountDTO;
+import com.example.accountmanagement.dto.TransactionDTO;
+import com.example.accountmanagement.dto.TransactionHistory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 서비스 메서드별로 실행되는 SQL 수를 Hibernate 통계로 확인한다.
+ * LAZY 연관관계가 필요 없는 join / 추가 select 를 만들지 않는지 검증하는 용도
+ */
+@SpringBootTest
+class FetchPlanQueryCountTest {
+    private static final Long USER_ID = 5L;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private AccountDTO account;
+    private TransactionDTO transaction;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        account = accountService.createAccount(USER_ID, 10000L);
+        transaction = transactionService.useBalance(USER_ID, account.getAccountNumber(), 1000L);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("거래 조회 - transaction + account 한 번의 select")
+    void queryTransaction() {
+        //given
+        statistics.clear();
+
+        //when
+        TransactionDTO result = transactionService.queryTransaction(transaction.getTransactionId());
+
+        //then
+        assertEquals(account.getAccountNumber(), result.getAccountNumber());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("사용자 계좌 목록 - 사용자 select + 계좌 projection select")
+    void getAccountsByUserId() {
+        //given
+        statistics.clear();
+
+        //when
+        List<AccountDTO> accounts = accountService.getAccountsByUserId(USER_ID);
+
+        //then
+        assertEquals(USER_ID, accounts.get(0).getUserId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("계좌 조회 - account + account_user 한 번의 select")
+    void getAccount() {
+        //given
+        Long accountId = accountIdOf(account.getAccountNumber());
+        statistics.clear();
+
+        //when
+        Account result = accountService.getAccount(accountId);
+
+        //then
+        assertEquals(USER_ID, result.getAccountUser().getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("거래 내역 - 계좌 fetch join select + 페이지가 차지 않아 보관 거래 select")
+    void getTransactionHistory() {
+        //given
+        TransactionHistory.Condition condition = TransactionHistory.Condition.builder().size(20).build();
+        // 계좌 메타데이터 캐시를 채운다.
+        transactionService.getTransactionHistory(account.getAccountNumber(), condition);
+        statistics.clear();
+
+        //when
+        TransactionHistory.Result result = transactionService.getTransactionHistory(account.getAccountNumber(), condition);
+
+        //then
+        assertEquals(1, result.getTransactions().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("계좌 생성 - 보유 계좌 수 갱신이 AccountUser 2차 캐시를 비우지 않는다")
+    void createAccountKeepsAccountUserCached() {
+        //given
+        // 사용자를 2차 캐시에 올린다.
+        accountService.getAccountsByUserId(USER_ID);
+        accountService.createAccount(USER_ID, 0L);
+        statistics.clear();
+
+        //when
+        accountService.getAccountsByUserId(USER_ID);
+
+        //then
+        assertEquals(1, statistics.getDomainDataRegionStatistics(AccountUser.class.getName()).getHitCount());
+        assertEquals(0, statistics.getDomainDataRegionStatistics(AccountUser.class.getName()).getMissCount());
+    }
+
+    private Long accountIdOf(String accountNumber) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("select a.id from Account a where a.accountNumber = :accountNumber", Long.class)
+                    .setParameter("accountNumber", accountNumber)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.controller.TransactionController;
+import com.example.accountmanagement.dto.UseBalance;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.ErrorCode;
+import com.example.accountmanagement.type.TransactionResultType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyAspectTest {
+    private static final String CACHE_KEY = "TransactionController.useBalance:1000000000:retry-1";
+    private static final String REQUEST_HASH = "request-hash";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private ProceedingJoinPoint proceedingJoinPoint;
+
+    @Mock
+    private MethodSignature methodSignature;
+
+    @InjectMocks
+    private IdempotencyAspect idempotencyAspect;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void proceedWithoutKey() throws Throwable {
+        //given
+        CompletableFuture<UseBalance.Response> response = CompletableFuture.completedFuture(response());
+        given(proceedingJoinPoint.proceed()).willReturn(response);
+
+        //when
+        Object result = idempotencyAspect.aroundMethod(proceedingJoinPoint, useBalanceRequest());
+
+        //then
+        assertSame(response, result);
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    void replayStoredResponse() throws Throwable {
+        //given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "retry-1");
+        givenUseBalanceMethod();
+        UseBalance.Response stored = response();
+        IdempotencyStore.Entry entry = new IdempotencyStore.Entry(REQUEST_HASH, "{}");
+        given(idempotencyStore.find(CACHE_KEY)).willReturn(entry);
+        given(idempotencyStore.readResponse(entry, UseBalance.Response.class)).willReturn(stored);
+
+        //when
+        Object result = idempotencyAspect.aroundMethod(proceedingJoinPoint, useBalanceRequest());
+
+        //then
+        assertSame(stored, ((CompletableFuture<?>) result).join());
+        verify(proceedingJoinPoint, never()).proceed();
+    }
+
+    @Test
+    void rejectReusedKeyWithDifferentBody() throws Throwable {
+        //given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "retry-1");
+        givenUseBalanceMethod();
+        given(idempotencyStore.find(CACHE_KEY))
+                .willReturn(new IdempotencyStore.Entry("other-hash", "{}"));
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> idempotencyAspect.aroundMethod(proceedingJoinPoint, useBalanceRequest()));
+
+        //then
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+        verify(idempotencyStore, never()).readResponse(any(), any());
+        verify(proceedingJoinPoint, never()).proceed();
+    }
+
+    @Test
+    void rejectWhenClaimedByAnotherNode() throws Throwable {
+        //given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "retry-1");
+        givenUseBalanceMethod();
+        given(idempotencyStore.find(CACHE_KEY))
+                .willReturn(null)
+                .willReturn(new IdempotencyStore.Entry(REQUEST_HASH, null));
+        given(idempotencyStore.claim(CACHE_KEY, REQUEST_HASH)).willReturn(false);
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> idempotencyAspect.aroundMethod(proceedingJoinPoint, useBalanceRequest()));
+
+        //then
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS, exception.getErrorCode());
+        verify(proceedingJoinPoint, never()).proceed();
+    }
+
+    @Test
+    void storeCompletedResponse() throws Throwable {
+        //given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "retry-1");
+        givenUseBalanceMethod();
+        UseBalance.Response response = response();
+        given(idempotencyStore.find(anyString())).willReturn(null);
+        given(idempotencyStore.claim(CACHE_KEY, REQUEST_HASH)).willReturn(true);
+        given(proceedingJoinPoint.proceed()).willReturn(CompletableFuture.completedFuture(response));
+
+        //when
+        idempotencyAspect.aroundMethod(proceedingJoinPoint, useBalanceRequest());
+
+        //then
+        verify(idempotencyStore, times(1)).complete(eq(CACHE_KEY), eq(REQUEST_HASH), eq(response));
+    }
+
+    @Test
+    void releaseClaimOnFailure() throws Throwable {
+        //given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "retry-1");
+        givenUseBalanceMethod();
+        given(idempotencyStore.find(anyString())).willReturn(null);
+        given(idempotencyStore.claim(CACHE_KEY, REQUEST_HASH)).willReturn(true);
+        given(proceedingJoinPoint.proceed()).willReturn(CompletableFuture.failedFuture(
+                new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE)));
+
+        //when
+        idempotencyAspect.aroundMethod(proceedingJoinPoint, useBalanceRequest());
+
+        //then
+        verify(idempotencyStore, times(1)).release(CACHE_KEY, REQUEST_HASH);
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), any());
+    }
+
+    private void givenUseBalanceMethod() throws NoSuchMethodException {
+        given(idempotencyStore.hash(any())).willReturn(REQUEST_HASH);
+        given(proceedingJoinPoint.getSignature()).willReturn(methodSignature);
+        given(methodSignature.getMethod()).willReturn(
+                TransactionController.class.getMethod("useBalance", UseBalance.Request.class));
+    }
+
+    private static UseBalance.Request useBalanceRequest() {
+        return new UseBalance.Request(1L, "1000000000", 1000L);
+    }
+
+    private static UseBalance.Response response() {
+        return UseBalance.Response.builder()
+                .accountNumber("1000000000")
+                .transactionResult(TransactionResultType.SUCCESS)
+                .transactionId("transactionId")
+                .amount(1000L)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.dto.LedgerEntry;
+import com.example.accountmanagement.type.LedgerOverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.accountmanagement.type.TransactionResultType.FAIL;
+import static com.example.accountmanagement.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerWriterTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void groupEntriesIntoOneBatch() throws Exception {
+        //given
+        LedgerWriter ledgerWriter = new LedgerWriter(jdbcTemplate, transactionManager,
+                new SimpleMeterRegistry(), 10, 200_000L, 100, LedgerOverflowPolicy.DROP);
+        ledgerWriter.start();
+        ArgumentCaptor<Collection<Object>> captor = ArgumentCaptor.forClass(Collection.class);
+
+        try {
+            //when
+            CompletableFuture.allOf(
+                    ledgerWriter.append(entry("1000000000")),
+                    ledgerWriter.append(entry("1000000001")),
+                    ledgerWriter.append(entry("1000000002"))
+            ).get(5, TimeUnit.SECONDS);
+
+            //then
+            verify(jdbcTemplate, times(1)).batchUpdate(
+                    anyString(),
+                    captor.capture(),
+                    eq(3),
+                    any(ParameterizedPreparedStatementSetter.class));
+            assertEquals(3, captor.getValue().size());
+            verify(transactionManager, times(1)).commit(any());
+        } finally {
+            ledgerWriter.stop();
+        }
+    }
+
+    private static LedgerEntry entry(String accountNumber) {
+        return LedgerEntry.builder()
+                .accountNumber(accountNumber)
+                .transactionType(USE)
+                .transactionResultType(FAIL)
+                .amount(1000L)
+                .transactionId("transactionId" + accountNumber)
+                .transactedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void dropWhenQueueIsFull() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LedgerWriter ledgerWriter = new LedgerWriter(jdbcTemplate, transactionManager,
+                meterRegistry, 10, 500L, 1, LedgerOverflowPolicy.DROP);
+
+        //when - flusher not started, so the single slot stays occupied
+        ledgerWriter.appendAsync(entry("1000000000"));
+        ledgerWriter.appendAsync(entry("1000000001"));
+        ledgerWriter.appendAsync(entry("1000000002"));
+
+        //then
+        assertEquals(2.0, meterRegistry.get("account.ledger.dropped").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.ledger.queue.size").gauge().value());
+    }
+}
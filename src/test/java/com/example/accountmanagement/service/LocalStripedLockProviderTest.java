@@ -0,0 +1,48 @@
+package com.example.accountmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalStripedLockProviderTest {
+    private final LocalStripedLockProvider lockProvider = new LocalStripedLockProvider(16);
+
+    @Test
+    void lockAndUnlock() throws InterruptedException {
+        //when
+        boolean locked = lockProvider.tryLock("ACLK:1000000000", 1, 15, TimeUnit.SECONDS);
+        lockProvider.unlock("ACLK:1000000000");
+
+        //then
+        assertTrue(locked);
+        assertFalse(lockProvider.stripeOf("ACLK:1000000000").isLocked());
+    }
+
+    @Test
+    void failWhenHeldByOtherThread() throws Exception {
+        //given
+        lockProvider.tryLock("ACLK:1000000000", 1, 15, TimeUnit.SECONDS);
+
+        //when
+        Boolean lockedByOther = CompletableFuture.supplyAsync(() -> {
+            try {
+                return lockProvider.tryLock("ACLK:1000000000", 10, 15, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        //then
+        assertFalse(lockedByOther);
+        lockProvider.unlock("ACLK:1000000000");
+    }
+
+    @Test
+    void sameKeyUsesSameStripe() {
+        assertSame(lockProvider.stripeOf("ACLK:1000000001"),
+                lockProvider.stripeOf("ACLK:1000000001"));
+    }
+}
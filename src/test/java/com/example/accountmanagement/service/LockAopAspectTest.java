@@ -2,20 +2,32 @@ package com.example.accountmanagement.service;
 
 import com.example.accountmanagement.dto.UseBalance;
 import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.TransactionMode;
 
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
 
 import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -24,9 +36,18 @@ class LockAopAspectTest {
     @Mock
     private LockService lockService;
 
+    @Mock
+    private LockContentionMonitor lockContentionMonitor;
+
+    @Mock
+    private AsyncLockExecutor asyncLockExecutor;
+
     @Mock
     private ProceedingJoinPoint proceedingJoinPoint;
 
+    @Mock
+    private MethodSignature methodSignature;
+
     @InjectMocks
     private LockAopAspect lockAopAspect;
 
@@ -48,4 +69,41 @@ class LockAopAspectTest {
         assertEquals("1234", lockArgumentCaptor.getValue());
         assertEquals("1234", unlockArgumentCaptor.getValue());
     }
+
+    @Test
+    void lockFailureIsRecorded() throws Throwable {
+        //given
+        UseBalance.Request request = new UseBalance.Request(123L, "1234", 1000L);
+        willThrow(new AccountException(ACCOUNT_TRANSACTION_LOCK))
+                .given(lockService).lock("1234");
+
+        //when
+        assertThrows(AccountException.class, () ->
+                lockAopAspect.aroundMethod(proceedingJoinPoint, request));
+
+        //then
+        verify(lockContentionMonitor, times(1)).lockFailed(eq("1234"), anyLong());
+        verify(proceedingJoinPoint, times(0)).proceed();
+        verify(lockService, times(0)).unlock(anyString());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void asyncModeHandsFutureMethodsToAsyncExecutor() throws Throwable {
+        //given
+        ReflectionTestUtils.setField(lockAopAspect, "transactionMode", TransactionMode.ASYNC);
+        UseBalance.Request request = new UseBalance.Request(123L, "1234", 1000L);
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        given(proceedingJoinPoint.getSignature()).willReturn(methodSignature);
+        given(methodSignature.getReturnType()).willReturn((Class) CompletableFuture.class);
+        given(asyncLockExecutor.execute(eq("1234"), any())).willReturn(result);
+
+        //when
+        Object returned = lockAopAspect.aroundMethod(proceedingJoinPoint, request);
+
+        //then
+        assertSame(result, returned);
+        verify(lockService, times(0)).lock(anyString());
+        verify(proceedingJoinPoint, times(0)).proceed();
+    }
 }
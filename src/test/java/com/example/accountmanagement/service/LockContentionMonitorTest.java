@@ -0,0 +1,78 @@
+package com.example.accountmanagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LockContentionMonitorTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LockContentionMonitor monitor =
+            new LockContentionMonitor(meterRegistry, 10L, 0.5, 5L, 100);
+
+    @Test
+    void recordWaitAndHold() {
+        //when
+        LockContentionMonitor.Hold hold = monitor.lockAcquired("1000000000", TimeUnit.MILLISECONDS.toNanos(1));
+        monitor.lockReleased(hold);
+
+        //then
+        assertEquals(1L, meterRegistry.get("account.lock.wait").tag("result", "acquired").timer().count());
+        assertEquals(1L, meterRegistry.get("account.lock.hold").timer().count());
+        assertEquals(0.0, meterRegistry.get("account.lock.active").gauge().value());
+    }
+
+    @Test
+    void rankContendedAccounts() {
+        //when
+        monitor.lockFailed("1000000001", TimeUnit.SECONDS.toNanos(1));
+        monitor.lockFailed("1000000001", TimeUnit.SECONDS.toNanos(1));
+        monitor.lockReleased(monitor.lockAcquired("1000000002", TimeUnit.MILLISECONDS.toNanos(20)));
+        monitor.lockReleased(monitor.lockAcquired("1000000003", 0L));
+
+        //then
+        Map<String, Long> hotAccounts = monitor.getHotAccounts(10);
+        assertEquals(2, hotAccounts.size());
+        assertEquals(2L, hotAccounts.get("1000000001"));
+        assertEquals("1000000001", hotAccounts.keySet().iterator().next());
+        assertEquals(2.0, meterRegistry.get("account.lock.failures").counter().count());
+    }
+
+    @Test
+    void decayMakesRoomForNewlyHotAccounts() {
+        //given
+        LockContentionMonitor smallMonitor = new LockContentionMonitor(meterRegistry, 10L, 0.5, 5L, 2);
+        smallMonitor.lockFailed("1000000001", 0L);
+        smallMonitor.lockFailed("1000000001", 0L);
+        smallMonitor.lockFailed("1000000001", 0L);
+        smallMonitor.lockFailed("1000000002", 0L);
+        smallMonitor.lockFailed("1000000003", 0L);
+
+        //when
+        smallMonitor.decayHotAccounts();
+        smallMonitor.lockFailed("1000000003", 0L);
+
+        //then
+        Map<String, Long> hotAccounts = smallMonitor.getHotAccounts(10);
+        assertEquals(2, hotAccounts.size());
+        assertEquals(1L, hotAccounts.get("1000000001"));
+        assertEquals(1L, hotAccounts.get("1000000003"));
+    }
+
+    @Test
+    void watchdogFlagsLongHoldOnce() throws InterruptedException {
+        //given
+        monitor.lockAcquired("1000000000", 0L);
+        Thread.sleep(20L);
+
+        //when
+        monitor.checkLongHolds();
+        monitor.checkLongHolds();
+
+        //then
+        assertEquals(1.0, meterRegistry.get("account.lock.lease.near.expiry").counter().count());
+    }
+}
@@ -6,22 +6,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 
 import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 
 @ExtendWith(MockitoExtension.class)
 class LockServiceTest {
     @Mock
-    private RedissonClient redissonClient;
-
-    @Mock
-    private RLock rLock;
+    private LockProvider lockProvider;
 
     @InjectMocks
     private LockService lockService;
@@ -29,9 +25,7 @@ class LockServiceTest {
     @Test
     void successGetLock() throws InterruptedException {
         //given
-        given(redissonClient.getLock(anyString()))
-                .willReturn(rLock);
-        given(rLock.tryLock(anyLong(), anyLong(), any()))
+        given(lockProvider.tryLock(anyString(), anyLong(), anyLong(), any()))
                 .willReturn(true);
 
         //when
@@ -42,9 +36,7 @@ class LockServiceTest {
     @Test
     void failGetLock() throws InterruptedException {
         //given
-        given(redissonClient.getLock(anyString()))
-                .willReturn(rLock);
-        given(rLock.tryLock(anyLong(), anyLong(), any()))
+        given(lockProvider.tryLock(anyString(), anyLong(), anyLong(), any()))
                 .willReturn(false);
 
         //when
@@ -55,4 +47,13 @@ class LockServiceTest {
         assertEquals(ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
 
     }
+
+    @Test
+    void unlockReleasesSameKey() {
+        //when
+        lockService.unlock("123");
+
+        //then
+        verify(lockProvider).unlock("ACLK:123");
+    }
 }
@@ -0,0 +1,172 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.dto.AccountInfo;
+import com.example.accountmanagement.dto.QueryTransactionResponse;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.repository.ReactiveReadRepository;
+import com.example.accountmanagement.type.TransactionResultType;
+import com.example.accountmanagement.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucketReactive;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.StringCodec;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.accountmanagement.type.ErrorCode.TRANSACTION_NOT_FOUND;
+import static com.example.accountmanagement.type.ErrorCode.USER_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveReadServiceTest {
+    @Mock
+    private ReactiveReadRepository reactiveReadRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RedissonReactiveClient redissonReactiveClient;
+
+    @Mock
+    private RBucketReactive<String> bucket;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ReactiveReadService reactiveReadService;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.reactive()).willReturn(redissonReactiveClient);
+        reactiveReadService = new ReactiveReadService(
+                reactiveReadRepository, redissonClient, objectMapper, 300000L, 1000L, true);
+    }
+
+    @Test
+    void queryTransactionFromDatabaseAndCache() {
+        //given
+        QueryTransactionResponse response = transaction();
+        given(redissonReactiveClient.<String>getBucket("reactive:transaction:T1", StringCodec.INSTANCE))
+                .willReturn(bucket);
+        given(bucket.get()).willReturn(Mono.empty());
+        given(bucket.set(anyString(), anyLong(), eq(TimeUnit.MILLISECONDS))).willReturn(Mono.empty());
+        given(reactiveReadRepository.findTransaction("T1")).willReturn(Mono.just(response));
+
+        //when
+        QueryTransactionResponse result = reactiveReadService.queryTransaction("T1").block();
+
+        //then
+        assertEquals("1000000012", result.getAccountNumber());
+        verify(bucket, times(1)).set(anyString(), eq(300000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void queryTransactionFromCache() throws Exception {
+        //given
+        given(redissonReactiveClient.<String>getBucket("reactive:transaction:T1", StringCodec.INSTANCE))
+                .willReturn(bucket);
+        given(bucket.get()).willReturn(Mono.just(objectMapper.writeValueAsString(transaction())));
+
+        //when
+        QueryTransactionResponse result = reactiveReadService.queryTransaction("T1").block();
+
+        //then
+        assertEquals("T1", result.getTransactionId());
+        verify(reactiveReadRepository, times(0)).findTransaction(anyString());
+    }
+
+    @Test
+    void queryTransaction_TransactionNotFound() {
+        //given
+        given(redissonReactiveClient.<String>getBucket("reactive:transaction:T1", StringCodec.INSTANCE))
+                .willReturn(bucket);
+        given(bucket.get()).willReturn(Mono.empty());
+        given(reactiveReadRepository.findTransaction("T1")).willReturn(Mono.empty());
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> reactiveReadService.queryTransaction("T1").block());
+
+        //then
+        assertEquals(TRANSACTION_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    void getAccountsByUserIdWhenRedisFails() {
+        //given
+        given(redissonReactiveClient.<String>getBucket("reactive:accounts:1", StringCodec.INSTANCE))
+                .willReturn(bucket);
+        given(bucket.get()).willReturn(Mono.error(new IllegalStateException("redis down")));
+        given(bucket.set(anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .willReturn(Mono.error(new IllegalStateException("redis down")));
+        given(reactiveReadRepository.findAccountsByUserId(1L))
+                .willReturn(Mono.just(List.of(new AccountInfo("1000000012", 1000L))));
+
+        //when
+        List<AccountInfo> accounts = reactiveReadService.getAccountsByUserId(1L).block();
+
+        //then
+        assertEquals(1, accounts.size());
+        assertEquals(1000L, accounts.get(0).getBalance());
+    }
+
+    @Test
+    void getAccountsByUserId_UserNotFound() {
+        //given
+        given(redissonReactiveClient.<String>getBucket("reactive:accounts:1", StringCodec.INSTANCE))
+                .willReturn(bucket);
+        given(bucket.get()).willReturn(Mono.empty());
+        given(reactiveReadRepository.findAccountsByUserId(1L)).willReturn(Mono.empty());
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> reactiveReadService.getAccountsByUserId(1L).block());
+
+        //then
+        assertEquals(USER_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    void getAccountsByUserIdWithoutCache() {
+        //given
+        ReactiveReadService uncachedService = new ReactiveReadService(
+                reactiveReadRepository, redissonClient, objectMapper, 300000L, 1000L, false);
+        given(reactiveReadRepository.findAccountsByUserId(1L))
+                .willReturn(Mono.just(List.of(new AccountInfo("1000000012", 1000L))));
+
+        //when
+        List<AccountInfo> accounts = uncachedService.getAccountsByUserId(1L).block();
+
+        //then
+        assertEquals(1000L, accounts.get(0).getBalance());
+        verifyNoInteractions(redissonReactiveClient);
+    }
+
+    private static QueryTransactionResponse transaction() {
+        return QueryTransactionResponse.builder()
+                .accountNumber("1000000012")
+                .transactionType(TransactionType.USE)
+                .transactionResult(TransactionResultType.SUCCESS)
+                .transactionId("T1")
+                .amount(1000L)
+                .transactedAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+}
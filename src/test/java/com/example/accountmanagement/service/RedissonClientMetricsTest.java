@@ -0,0 +1,73 @@
+package com.example.accountmanagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.Node;
+import org.redisson.api.NodesGroup;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedissonClientMetricsTest {
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private NodesGroup<Node> nodesGroup;
+
+    @Mock
+    private Node reachableNode;
+
+    @Mock
+    private Node downNode;
+
+    @Mock
+    private RFuture<Boolean> reachablePing;
+
+    @Mock
+    private RFuture<Boolean> downPing;
+
+    @Test
+    void scrapeReadsLastPingResult() {
+        //given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RedissonClientMetrics metrics = new RedissonClientMetrics(redissonClient, 500L);
+        metrics.bindTo(registry);
+        given(redissonClient.getNodesGroup()).willReturn(nodesGroup);
+        given(nodesGroup.getNodes()).willReturn(List.of(reachableNode, downNode));
+        given(reachableNode.pingAsync(eq(500L), eq(TimeUnit.MILLISECONDS))).willReturn(reachablePing);
+        given(reachablePing.toCompletableFuture()).willReturn(CompletableFuture.completedFuture(true));
+        given(downNode.pingAsync(eq(500L), eq(TimeUnit.MILLISECONDS))).willReturn(downPing);
+        given(downPing.toCompletableFuture())
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        //when
+        metrics.refreshReachableNodes();
+        double firstScrape = registry.get("redisson.nodes.reachable").gauge().value();
+        double secondScrape = registry.get("redisson.nodes.reachable").gauge().value();
+
+        //then
+        // scrape 는 PING 을 보내지 않고 마지막 결과만 읽는다.
+        assertEquals(1.0, firstScrape);
+        assertEquals(1.0, secondScrape);
+        verify(reachableNode, times(1)).pingAsync(anyLong(), any());
+        verify(downNode, times(1)).pingAsync(anyLong(), any());
+        verify(reachableNode, never()).ping();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.accountmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedissonLockProviderTest {
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @InjectMocks
+    private RedissonLockProvider lockProvider;
+
+    @Test
+    void unlockWithoutOwnershipCheck() {
+        //given
+        given(redissonClient.getLock("ACLK:1000000000")).willReturn(lock);
+
+        //when
+        lockProvider.unlock("ACLK:1000000000");
+
+        //then
+        verify(lock, times(1)).unlock();
+        verify(lock, never()).isHeldByCurrentThread();
+    }
+
+    @Test
+    void ignoreUnlockAfterLeaseExpired() {
+        //given
+        given(redissonClient.getLock("ACLK:1000000000")).willReturn(lock);
+        willThrow(new IllegalMonitorStateException("not locked by current thread"))
+                .given(lock).unlock();
+
+        //when
+        //then
+        assertDoesNotThrow(() -> lockProvider.unlock("ACLK:1000000000"));
+    }
+}
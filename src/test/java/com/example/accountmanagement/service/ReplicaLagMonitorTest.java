@@ -0,0 +1,92 @@
+package com.example.accountmanagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaLagMonitorTest {
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = heartbeatDatabase();
+        replica = heartbeatDatabase();
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("replica 가 방금 쓴 heartbeat 를 돌려주면 지연 0")
+    void caughtUpReplicaHasNoLag() {
+        //given
+        // primary 와 replica 가 같은 DB 인 경우
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, primary, new SimpleMeterRegistry(), 100, 1000);
+
+        //when
+        monitor.checkLag();
+
+        //then
+        assertEquals(0, monitor.getLagMs());
+        assertTrue(monitor.isReplicaUsable());
+    }
+
+    @Test
+    @DisplayName("지연은 replica 에 반영되지 않은 가장 오래된 heartbeat 기준")
+    void lagFromOldestUnappliedBeat() throws InterruptedException {
+        //given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, new SimpleMeterRegistry(), 100, 1000);
+        monitor.checkLag();
+        long firstBeatAtMs = new JdbcTemplate(primary)
+                .queryForObject("select beat_at_ms from replica_heartbeat where id = 1", Long.class);
+        Thread.sleep(150);
+
+        //when
+        monitor.checkLag();
+
+        //then
+        assertTrue(monitor.getLagMs() >= 150);
+        assertTrue(monitor.getLagMs() <= System.currentTimeMillis() - firstBeatAtMs);
+        assertFalse(monitor.isReplicaUsable());
+    }
+
+    @Test
+    @DisplayName("확인이 주기의 2배 넘게 멈추면 사용하지 않는다")
+    void staleCheckIsNotUsable() throws InterruptedException {
+        //given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, primary, new SimpleMeterRegistry(), 100, 20);
+        monitor.checkLag();
+        assertTrue(monitor.isReplicaUsable());
+
+        //when
+        Thread.sleep(60);
+
+        //then
+        assertFalse(monitor.isReplicaUsable());
+    }
+
+    private static EmbeddedDatabase heartbeatDatabase() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table replica_heartbeat (id int primary key, beat_at_ms bigint not null)");
+        jdbcTemplate.update("insert into replica_heartbeat values (1, 0)");
+        return database;
+    }
+}
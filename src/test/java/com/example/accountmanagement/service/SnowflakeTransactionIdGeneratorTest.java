@@ -0,0 +1,57 @@
+package com.example.accountmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeTransactionIdGeneratorTest {
+    private final SnowflakeTransactionIdGenerator generator = new SnowflakeTransactionIdGenerator(7);
+
+    @Test
+    void idsAreFixedLengthAndIncreasing() {
+        //given
+        String previous = generator.generate();
+
+        //when
+        //then
+        for (int i = 0; i < 100_000; i++) {
+            String next = generator.generate();
+            assertEquals(13, next.length());
+            assertTrue(next.compareTo(previous) > 0, previous + " >= " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() {
+        //given
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        //when
+        IntStream.range(0, 200_000).parallel()
+                .forEach(i -> ids.add(generator.generate()));
+
+        //then
+        assertEquals(200_000, ids.size());
+    }
+
+    @Test
+    void nodeIdIsEncoded() {
+        //when
+        long id = generator.nextId();
+
+        //then
+        assertEquals(7L, (id >>> SnowflakeTransactionIdGenerator.SEQUENCE_BITS)
+                & SnowflakeTransactionIdGenerator.MAX_NODE_ID);
+    }
+
+    @Test
+    void rejectInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeTransactionIdGenerator(1024));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.accountmanagement.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransactionArchiverTest {
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionArchiver transactionArchiver;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table account (id bigint primary key, account_number varchar(20))");
+        jdbcTemplate.execute("create table transaction (id bigint primary key, account_id bigint, " +
+                "transaction_type varchar(20), transaction_result_type varchar(20), amount bigint, " +
+                "balance_snapshot bigint, transaction_id varchar(40), transacted_at timestamp)");
+        jdbcTemplate.execute("create table transaction_archive (id bigint primary key, account_id bigint, " +
+                "account_number varchar(20), transaction_type varchar(20), transaction_result_type varchar(20), " +
+                "amount bigint, balance_snapshot bigint, transaction_id varchar(40), " +
+                "transacted_at timestamp, archived_at timestamp)");
+        jdbcTemplate.update("insert into account values (1, '1000000000')");
+
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 5; id++) {
+            insertTransaction(id, now.minusYears(2).plusDays(id));
+        }
+        insertTransaction(6L, now.minusMonths(11));
+
+        transactionArchiver = new TransactionArchiver(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                new LocalStripedLockProvider(16), 2, 1, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionArchiver.shutdown();
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("취소 기간이 지난 거래만 chunk 단위로 옮긴다")
+    void archiveMovesOldTransactionsInChunks() {
+        //given
+        //when
+        transactionArchiver.archive();
+
+        //then
+        assertEquals(1, count("transaction"));
+        assertEquals(5, count("transaction_archive"));
+        assertEquals("1000000000", jdbcTemplate.queryForObject(
+                "select account_number from transaction_archive where id = 1", String.class));
+        assertEquals("tx6", jdbcTemplate.queryForObject(
+                "select transaction_id from transaction", String.class));
+    }
+
+    @Test
+    @DisplayName("chunk 크기만큼만 옮긴다")
+    void archiveChunk() throws Exception {
+        //given
+        //when
+        int moved = transactionArchiver.archiveChunk(LocalDateTime.now().minusYears(1));
+
+        //then
+        assertEquals(2, moved);
+        assertEquals(4, count("transaction"));
+    }
+
+    @Test
+    @DisplayName("스케줄러 스레드는 보관 작업을 전용 스레드에 넘기고 바로 돌아온다")
+    void scheduleArchiveRunsOnArchiverThread() throws InterruptedException {
+        //given
+        //when
+        transactionArchiver.scheduleArchive();
+
+        //then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (count("transaction_archive") < 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(5, count("transaction_archive"));
+        assertEquals(1, count("transaction"));
+    }
+
+    private void insertTransaction(Long id, LocalDateTime transactedAt) {
+        jdbcTemplate.update("insert into transaction values (?, 1, 'USE', 'SUCCESS', 100, 9900, ?, ?)",
+                id, "tx" + id, transactedAt);
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+    }
+}
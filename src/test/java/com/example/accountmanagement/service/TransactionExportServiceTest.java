@@ -0,0 +1,139 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.dto.AccountMetadata;
+import com.example.accountmanagement.exception.AccountException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.accountmanagement.type.AccountStatus.IN_USE;
+import static com.example.accountmanagement.type.ErrorCode.INVALID_REQUEST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+    @Mock
+    private AccountMetadataCache accountMetadataCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private EmbeddedDatabase dataSource;
+    private TransactionExportService transactionExportService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table account (id bigint primary key, account_number varchar(20))");
+        jdbcTemplate.execute("create table transaction (id bigint primary key, account_id bigint, " +
+                "transaction_type varchar(20), transaction_result_type varchar(20), amount bigint, " +
+                "balance_snapshot bigint, transaction_id varchar(40), transacted_at timestamp)");
+        jdbcTemplate.execute("create table transaction_archive (id bigint primary key, account_id bigint, " +
+                "account_number varchar(20), transaction_type varchar(20), transaction_result_type varchar(20), " +
+                "amount bigint, balance_snapshot bigint, transaction_id varchar(40), transacted_at timestamp)");
+        jdbcTemplate.update("insert into account values (1, '1000000000'), (2, '1000000001')");
+        jdbcTemplate.update("insert into transaction_archive values " +
+                "(0, 1, '1000000000', 'USE', 'SUCCESS', 100, 10000, 'tx0', ?)",
+                LocalDateTime.of(2022, 1, 1, 0, 0));
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("insert into transaction values (?, ?, 'USE', 'SUCCESS', 100, ?, ?, ?)",
+                    id, id % 2 == 0 ? 2 : 1, 10000 - id * 100, "tx" + id, base.plusMinutes(id));
+        }
+
+        transactionExportService = new TransactionExportService(
+                dataSource, new DataSourceTransactionManager(dataSource),
+                accountMetadataCache, objectMapper, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("계좌 단위 내보내기 - 한 줄에 거래 하나, 보관 거래부터")
+    void exportByAccount() throws Exception {
+        //given
+        given(accountMetadataCache.get("1000000000"))
+                .willReturn(new AccountMetadata(1L, 12L, IN_USE));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        long rows = transactionExportService.export(
+                transactionExportService.prepare("1000000000", null, null), out, false);
+
+        //then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, rows);
+        assertEquals(4, lines.length);
+        JsonNode archived = objectMapper.readTree(lines[0]);
+        assertEquals("tx0", archived.get("transactionId").asText());
+        assertEquals("1000000000", archived.get("accountNumber").asText());
+        JsonNode first = objectMapper.readTree(lines[1]);
+        assertEquals("tx1", first.get("transactionId").asText());
+        assertEquals("1000000000", first.get("accountNumber").asText());
+        assertEquals(9900L, first.get("balanceSnapshot").asLong());
+        assertFalse(first.has("errorCode"));
+        assertEquals("tx5", objectMapper.readTree(lines[3]).get("transactionId").asText());
+    }
+
+    @Test
+    @DisplayName("기간 단위 gzip 내보내기")
+    void exportByTimeRangeGzip() throws Exception {
+        //given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        //when
+        long rows = transactionExportService.export(
+                transactionExportService.prepare(null, base.plusMinutes(2), base.plusMinutes(4)), out, true);
+
+        //then
+        String body = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertEquals(2, rows);
+        assertEquals("tx2", objectMapper.readTree(lines[0]).get("transactionId").asText());
+        assertEquals("tx3", objectMapper.readTree(lines[1]).get("transactionId").asText());
+    }
+
+    @Test
+    @DisplayName("계좌 / 기간 조건이 모두 없으면 실패")
+    void exportWithoutCondition() {
+        //given
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionExportService.prepare(null, null, null));
+
+        //then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+    }
+}
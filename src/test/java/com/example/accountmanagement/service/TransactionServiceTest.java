@@ -2,10 +2,18 @@ package com.example.accountmanagement.service;
 
 import com.example.accountmanagement.domain.Account;
 import com.example.accountmanagement.domain.Transaction;
+import com.example.accountmanagement.domain.TransactionArchive;
+import com.example.accountmanagement.dto.AccountMetadata;
+import com.example.accountmanagement.dto.LedgerEntry;
 import com.example.accountmanagement.dto.TransactionDTO;
+import com.example.accountmanagement.dto.TransactionHistory;
+import com.example.accountmanagement.dto.UseBalance;
+import com.example.accountmanagement.dto.UseBalanceBatch;
+import com.example.accountmanagement.repository.TransactionArchiveRepository;
 import com.example.accountmanagement.repository.TransactionRepository;
 import com.example.accountmanagement.type.AccountStatus;
 import com.example.accountmanagement.domain.AccountUser;
+import com.example.accountmanagement.type.TransactionMode;
 
 import com.example.accountmanagement.exception.AccountException;
 import com.example.accountmanagement.repository.AccountRepository;
@@ -18,10 +26,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 
+import java.util.List;
 import java.util.Optional;
 
 import static com.example.accountmanagement.type.AccountStatus.IN_USE;
@@ -34,6 +48,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -46,12 +61,27 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private TransactionArchiveRepository transactionArchiveRepository;
+
     @Mock
     private AccountRepository accountRepository;
 
     @Mock
     private AccountUserRepository accountUserRepository;
 
+    @Mock
+    private LedgerWriter ledgerWriter;
+
+    @Mock
+    private AccountMetadataCache accountMetadataCache;
+
+    @Mock
+    private DailyBalanceSnapshotService dailyBalanceSnapshotService;
+
+    @Spy
+    private TransactionIdGenerator transactionIdGenerator = new SnowflakeTransactionIdGenerator(0);
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -67,9 +97,9 @@ class TransactionServiceTest {
                 .balance(10000L)
                 .accountNumber("1000000012").build();
 
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.of(user));
-        given(accountRepository.findByAccountNumber(anyString()))
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
+        given(accountRepository.findById(any()))
                 .willReturn(Optional.of(account));
         given(transactionRepository.save(any()))
                 .willReturn(Transaction.builder()
@@ -84,7 +114,7 @@ class TransactionServiceTest {
         ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
 
         //when
-        TransactionDTO transactionDTO = transactionService.useBalance(1L, "1000000012", USE_AMOUNT);
+        TransactionDTO transactionDTO = transactionService.useBalance(12L, "1000000012", USE_AMOUNT);
 
         //then
         verify(transactionRepository, times(1)).save(captor.capture());
@@ -94,6 +124,7 @@ class TransactionServiceTest {
         assertEquals(USE, transactionDTO.getTransactionType());
         assertEquals(9000L, transactionDTO.getBalanceSnapshot());
         assertEquals(1000L, transactionDTO.getAmount());
+        verify(dailyBalanceSnapshotService, times(1)).record(any());
 
     }
 
@@ -101,7 +132,13 @@ class TransactionServiceTest {
     @DisplayName("해당 유저 없음 - 잔액 사용 실패")
     void useBalance_UserNotFound() {
         //given
-        given(accountUserRepository.findById(anyLong()))
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.builder()
+                        .id(1L)
+                        .ownerId(12L)
+                        .accountStatus(IN_USE)
+                        .build());
+        given(accountUserRepository.findById(1L))
                 .willReturn(Optional.empty());
 
         //when
@@ -116,17 +153,12 @@ class TransactionServiceTest {
     @DisplayName("해당 계좌 없음 - 잔액 사용 실패")
     void useBalance_AccountNotFound() {
         //given
-        AccountUser user = AccountUser.builder()
-                        .name("Pobi").build();
-        user.setId(12L);
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.of(user));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.empty());
+        given(accountMetadataCache.get(anyString()))
+                .willThrow(new AccountException(ACCOUNT_NOT_FOUND));
 
         //when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.useBalance(1L, "1000000012", USE_AMOUNT));
+                () -> transactionService.useBalance(12L, "1000000012", USE_AMOUNT));
 
         //then
         assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
@@ -142,17 +174,17 @@ class TransactionServiceTest {
         AccountUser cathrine = AccountUser.builder()
                 .name("Cathrine").build();
         cathrine.setId(13L);
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.of(mark));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.of(Account.builder()
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(Account.builder()
                         .accountUser(cathrine)
                         .balance(0L)
                         .accountNumber("1000000012").build()));
+        given(accountUserRepository.findById(12L))
+                .willReturn(Optional.of(mark));
 
         //when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.useBalance(1L, "1000000012", USE_AMOUNT));
+                () -> transactionService.useBalance(12L, "1000000012", USE_AMOUNT));
 
         //then
         assertEquals(USER_ACCOUNT_UN_MATCH, exception.getErrorCode());
@@ -166,10 +198,8 @@ class TransactionServiceTest {
                 .name("Mark").build();
         user.setId(12L);
 
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.of(user));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.of(Account.builder()
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(Account.builder()
                         .accountUser(user)
                         .balance(0L)
                         .accountStatus(AccountStatus.UNREGISTERED)
@@ -177,7 +207,7 @@ class TransactionServiceTest {
 
         //when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.useBalance(1L, "1000000012", USE_AMOUNT));
+                () -> transactionService.useBalance(12L, "1000000012", USE_AMOUNT));
 
         //then
         assertEquals(ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
@@ -196,25 +226,26 @@ class TransactionServiceTest {
                 .balance(100L)
                 .accountNumber("1000000012").build();
 
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.of(user));
-        given(accountRepository.findByAccountNumber(anyString()))
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
+        given(accountRepository.findById(any()))
                 .willReturn(Optional.of(account));
 
         //when
         //then
 
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.useBalance(1L, "1000000012", USE_AMOUNT));
+                () -> transactionService.useBalance(12L, "1000000012", USE_AMOUNT));
 
         assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
         verify(transactionRepository, times(0)).save(any());
     }
 
     @Test
-    @DisplayName("실패 트랜잭션 저장 성공")
-    void saveFailedUseTransaction() {
+    @DisplayName("OPTIMISTIC 모드 - 조건부 UPDATE 로 잔액 사용")
+    void successUseBalance_optimistic() {
         //given
+        ReflectionTestUtils.setField(transactionService, "transactionMode", TransactionMode.OPTIMISTIC);
         AccountUser user = AccountUser.builder()
                 .name("Pobi").build();
         user.setId(12L);
@@ -224,27 +255,180 @@ class TransactionServiceTest {
                 .balance(10000L)
                 .accountNumber("1000000012").build();
 
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.of(account));
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
+        given(accountRepository.decreaseBalance(anyString(), anyLong()))
+                .willReturn(1);
+        given(accountRepository.findBalanceByAccountNumber(anyString()))
+                .willReturn(Optional.of(9800L));
+        given(accountRepository.getReferenceById(any()))
+                .willReturn(account);
         given(transactionRepository.save(any()))
-                .willReturn(Transaction.builder()
-                        .account(account)
-                        .transactionType(USE)
-                        .transactionResultType(SUCCESS)
-                        .transactionId("transactionId")
-                        .transactedAt(LocalDateTime.now())
-                        .amount(1000L)
-                        .balanceSnapshot(9000L)
-                        .build());
+                .willAnswer(invocation -> invocation.getArgument(0));
         ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
 
         //when
-        transactionService.saveFailedUseTransaction("10000000001", 1000L);
+        TransactionDTO transactionDTO = transactionService.useBalance(12L, "1000000012", USE_AMOUNT);
 
         //then
+        verify(accountRepository, times(1)).decreaseBalance("1000000012", USE_AMOUNT);
+        verify(accountRepository, never()).findByAccountNumber(anyString());
+        verify(accountRepository, never()).findById(any());
         verify(transactionRepository, times(1)).save(captor.capture());
+        assertEquals(9800L, captor.getValue().getBalanceSnapshot());
+        assertEquals(10000L, account.getBalance());
+        assertEquals(SUCCESS, transactionDTO.getTransactionResultType());
+        assertEquals("1000000012", transactionDTO.getAccountNumber());
+        assertEquals(9800L, transactionDTO.getBalanceSnapshot());
+    }
+
+    @Test
+    @DisplayName("OPTIMISTIC 모드 - 조건부 UPDATE 실패 시 잔액 부족")
+    void exceedAmountUseBalance_optimistic() {
+        //given
+        ReflectionTestUtils.setField(transactionService, "transactionMode", TransactionMode.OPTIMISTIC);
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(accountRepository.decreaseBalance(anyString(), anyLong()))
+                .willReturn(0);
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.useBalance(12L, "1000000012", USE_AMOUNT));
+
+        //then
+        assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        verify(accountRepository, never()).findBalanceByAccountNumber(anyString());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("OPTIMISTIC 모드 - 음수 금액 사용은 UPDATE 전에 거절")
+    void negativeAmountUseBalance_optimistic() {
+        //given
+        ReflectionTestUtils.setField(transactionService, "transactionMode", TransactionMode.OPTIMISTIC);
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.useBalance(12L, "1000000012", -1000L));
+
+        //then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+        verify(accountRepository, never()).decreaseBalance(anyString(), anyLong());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("계좌별 일괄 사용 - 건별 실패는 FAIL 결과로 반환")
+    void useBalanceGroup() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(1000L)
+                .accountNumber("1000000012").build();
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(transactionRepository.save(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        List<TransactionDTO> results = transactionService.useBalanceGroup(
+                new UseBalanceBatch.AccountGroup("1000000012", List.of(
+                        new UseBalance.Request(12L, "1000000012", 600L),
+                        new UseBalance.Request(12L, "1000000012", 600L),
+                        new UseBalance.Request(12L, "1000000012", 400L))));
+
+        //then
+        verify(accountRepository, times(1)).findByAccountNumber(anyString());
+        verify(transactionRepository, times(2)).save(any());
+        verify(ledgerWriter, times(1)).appendAsync(any());
+        assertEquals(3, results.size());
+        assertEquals(SUCCESS, results.get(0).getTransactionResultType());
+        assertEquals(400L, results.get(0).getBalanceSnapshot());
+        assertEquals(FAIL, results.get(1).getTransactionResultType());
+        assertEquals(AMOUNT_EXCEED_BALANCE, results.get(1).getErrorCode());
+        assertEquals(SUCCESS, results.get(2).getTransactionResultType());
+        assertEquals(0L, account.getBalance());
+    }
+
+    @Test
+    @DisplayName("계좌별 일괄 사용 - 건별 FAIL 기록은 커밋된 뒤에만 남긴다")
+    void useBalanceGroupAppendsFailuresAfterCommit() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(1000L)
+                .accountNumber("1000000012").build();
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(transactionRepository.save(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            //when
+            transactionService.useBalanceGroup(
+                    new UseBalanceBatch.AccountGroup("1000000012", List.of(
+                            new UseBalance.Request(12L, "1000000012", 600L),
+                            new UseBalance.Request(12L, "1000000012", 600L))));
+
+            //then
+            verify(ledgerWriter, never()).appendAsync(any());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            verify(ledgerWriter, times(1)).appendAsync(any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("실패 트랜잭션 저장 성공")
+    void saveFailedUseTransaction() {
+        //given
+        ArgumentCaptor<LedgerEntry> captor = ArgumentCaptor.forClass(LedgerEntry.class);
+
+        //when
+        transactionService.saveFailedUseTransaction("1000000012", 1000L);
+
+        //then
+        verify(ledgerWriter, times(1)).appendAsync(captor.capture());
+        verify(accountRepository, never()).findByAccountNumber(anyString());
+        assertEquals("1000000012", captor.getValue().getAccountNumber());
         assertEquals(1000L, captor.getValue().getAmount());
-        assertEquals(10000L, captor.getValue().getBalanceSnapshot());
+        assertEquals(USE, captor.getValue().getTransactionType());
         assertEquals(FAIL, captor.getValue().getTransactionResultType());
     }
 
@@ -271,8 +455,8 @@ class TransactionServiceTest {
 
         given(transactionRepository.findByTransactionId(anyString()))
                 .willReturn(Optional.of(transaction));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.of(account));
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
         given(transactionRepository.save(any()))
                 .willReturn(Transaction.builder()
                         .account(account)
@@ -305,8 +489,8 @@ class TransactionServiceTest {
         //given
         given(transactionRepository.findByTransactionId(anyString()))
                 .willReturn(Optional.of(Transaction.builder().build()));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.empty());
+        given(accountMetadataCache.get(anyString()))
+                .willThrow(new AccountException(ACCOUNT_NOT_FOUND));
         //when
         AccountException exception = assertThrows(AccountException.class,
                 () -> transactionService.cancelBalance("transactionId", "1000000000", CANCEL_AMOUNT));
@@ -360,8 +544,8 @@ class TransactionServiceTest {
 
         given(transactionRepository.findByTransactionId(anyString()))
                 .willReturn(Optional.of(transaction));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.of(accountNotUse));
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(accountNotUse));
         //when
         AccountException exception = assertThrows(AccountException.class,
                 () -> transactionService
@@ -401,8 +585,8 @@ class TransactionServiceTest {
 
         given(transactionRepository.findByTransactionId(anyString()))
                 .willReturn(Optional.of(transaction));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.of(account));
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
         //when
         AccountException exception = assertThrows(AccountException.class,
                 () -> transactionService
@@ -442,8 +626,8 @@ class TransactionServiceTest {
 
         given(transactionRepository.findByTransactionId(anyString()))
                 .willReturn(Optional.of(transaction));
-        given(accountRepository.findByAccountNumber(anyString()))
-                .willReturn(Optional.of(account));
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
         //when
         AccountException exception = assertThrows(AccountException.class,
                 () -> transactionService
@@ -479,7 +663,7 @@ class TransactionServiceTest {
                 .amount(CANCEL_AMOUNT)
                 .balanceSnapshot(9000L)
                 .build();
-        given(transactionRepository.findByTransactionId(anyString()))
+        given(transactionRepository.findWithAccountByTransactionId(anyString()))
                 .willReturn(Optional.of(transaction));
 
         //when
@@ -496,7 +680,7 @@ class TransactionServiceTest {
     @DisplayName("해당 거래 없음 - 거래 조회 실패")
     void queryTransaction_TransactionNotFound() {
         //given
-        given(transactionRepository.findByTransactionId(anyString()))
+        given(transactionRepository.findWithAccountByTransactionId(anyString()))
                 .willReturn(Optional.empty());
         //when
         AccountException exception = assertThrows(AccountException.class,
@@ -505,4 +689,196 @@ class TransactionServiceTest {
         //then
         assertEquals(TRANSACTION_NOT_FOUND, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래 내역 - 한 건 더 읽어서 다음 cursor 를 만든다")
+    void getTransactionHistory_hasNext() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+        account.setId(1L);
+        LocalDateTime now = LocalDateTime.now();
+        Transaction first = historyTransaction(account, 30L, now);
+        Transaction second = historyTransaction(account, 20L, now.minusSeconds(1));
+        Transaction third = historyTransaction(account, 10L, now.minusSeconds(2));
+
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
+        given(transactionRepository.findHistory(eq(1L), any(), anyLong(), any(), any(), any(), any(), eq(Limit.of(3))))
+                .willReturn(List.of(first, second, third));
+
+        //when
+        TransactionHistory.Result result = transactionService.getTransactionHistory("1000000012",
+                TransactionHistory.Condition.builder().size(2).build());
+
+        //then
+        assertEquals(2, result.getTransactions().size());
+        TransactionHistory.Cursor cursor = TransactionHistory.Cursor.decode(result.getNextCursor());
+        assertEquals(20L, cursor.getId());
+        assertEquals(second.getTransactedAt(), cursor.getTransactedAt());
+    }
+
+    @Test
+    @DisplayName("거래 내역 - 마지막 페이지는 cursor 가 없다")
+    void getTransactionHistory_lastPage() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+        account.setId(1L);
+        LocalDateTime now = LocalDateTime.now();
+        String cursor = new TransactionHistory.Cursor(now, 40L).encode();
+
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
+        given(transactionRepository.findHistory(eq(1L), eq(now), eq(40L), eq(USE), any(), any(), any(), any()))
+                .willReturn(List.of(historyTransaction(account, 30L, now.minusSeconds(1))));
+
+        //when
+        TransactionHistory.Result result = transactionService.getTransactionHistory("1000000012",
+                TransactionHistory.Condition.builder()
+                        .transactionType(USE)
+                        .cursor(cursor)
+                        .size(2)
+                        .build());
+
+        //then
+        assertEquals(1, result.getTransactions().size());
+        assertEquals(null, result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("거래 내역 - 최근 거래로 페이지가 차지 않으면 보관 거래로 이어서 채운다")
+    void getTransactionHistory_continuesIntoArchive() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+        account.setId(1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        given(accountMetadataCache.get(anyString()))
+                .willReturn(AccountMetadata.from(account));
+        given(transactionRepository.findHistory(eq(1L), any(), anyLong(), any(), any(), any(), any(), eq(Limit.of(3))))
+                .willReturn(List.of(historyTransaction(account, 30L, now)));
+        given(transactionArchiveRepository.findHistory(eq(1L), any(), anyLong(), any(), any(), any(), any(), eq(Limit.of(2))))
+                .willReturn(List.of(
+                        archivedTransaction(20L, now.minusYears(2)),
+                        archivedTransaction(10L, now.minusYears(3))));
+
+        //when
+        TransactionHistory.Result result = transactionService.getTransactionHistory("1000000012",
+                TransactionHistory.Condition.builder().size(2).build());
+
+        //then
+        assertEquals(2, result.getTransactions().size());
+        assertEquals("transactionId30", result.getTransactions().get(0).getTransactionId());
+        assertEquals("transactionId20", result.getTransactions().get(1).getTransactionId());
+        assertEquals(20L, TransactionHistory.Cursor.decode(result.getNextCursor()).getId());
+    }
+
+    @Test
+    @DisplayName("거래 내역 - 잘못된 cursor")
+    void getTransactionHistory_invalidCursor() {
+        //given
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.getTransactionHistory("1000000012",
+                        TransactionHistory.Condition.builder()
+                                .cursor("not-a-cursor")
+                                .size(20)
+                                .build()));
+
+        //then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+    }
+
+    private Transaction historyTransaction(Account account, Long id, LocalDateTime transactedAt) {
+        Transaction transaction = Transaction.builder()
+                .account(account)
+                .transactionType(USE)
+                .transactionResultType(SUCCESS)
+                .transactionId("transactionId" + id)
+                .transactedAt(transactedAt)
+                .amount(USE_AMOUNT)
+                .balanceSnapshot(9800L)
+                .build();
+        transaction.setId(id);
+        return transaction;
+    }
+
+    private TransactionArchive archivedTransaction(Long id, LocalDateTime transactedAt) {
+        return TransactionArchive.builder()
+                .id(id)
+                .accountId(1L)
+                .accountNumber("1000000012")
+                .transactionType(USE)
+                .transactionResultType(SUCCESS)
+                .transactionId("transactionId" + id)
+                .transactedAt(transactedAt)
+                .amount(USE_AMOUNT)
+                .balanceSnapshot(9800L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("보관된 거래는 취소할 수 없다")
+    void cancelTransaction_Archived() {
+        //given
+        given(transactionRepository.findByTransactionId(anyString()))
+                .willReturn(Optional.empty());
+        given(transactionArchiveRepository.existsByTransactionId("transactionId"))
+                .willReturn(true);
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.cancelBalance("transactionId", "1000000000", CANCEL_AMOUNT));
+
+        //then
+        assertEquals(ORDER_TOO_OLD_TO_CANCEL, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("최근 거래에 없으면 보관 거래에서 조회")
+    void queryTransaction_FromArchive() {
+        //given
+        given(transactionRepository.findWithAccountByTransactionId(anyString()))
+                .willReturn(Optional.empty());
+        given(transactionArchiveRepository.findByTransactionId("transactionId"))
+                .willReturn(Optional.of(TransactionArchive.builder()
+                        .id(1L)
+                        .accountId(1L)
+                        .accountNumber("1000000012")
+                        .transactionType(USE)
+                        .transactionResultType(SUCCESS)
+                        .transactionId("transactionId")
+                        .transactedAt(LocalDateTime.now().minusYears(2))
+                        .amount(1000L)
+                        .balanceSnapshot(9000L)
+                        .build()));
+
+        //when
+        TransactionDTO transactionDTO = transactionService.queryTransaction("transactionId");
+
+        //then
+        assertEquals("1000000012", transactionDTO.getAccountNumber());
+        assertEquals(1000L, transactionDTO.getAmount());
+        assertEquals(9000L, transactionDTO.getBalanceSnapshot());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.accountmanagement.service;
+
+import com.example.accountmanagement.domain.Account;
+import com.example.accountmanagement.dto.TransactionDTO;
+import com.example.accountmanagement.dto.UseBalance;
+import com.example.accountmanagement.dto.UseBalanceBatch;
+import com.example.accountmanagement.exception.AccountException;
+import com.example.accountmanagement.type.TransactionMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.List;
+
+import static com.example.accountmanagement.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+import static com.example.accountmanagement.type.ErrorCode.INTERNAL_SERVER_ERROR;
+import static com.example.accountmanagement.type.TransactionResultType.FAIL;
+import static com.example.accountmanagement.type.TransactionResultType.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UseBalanceBatchServiceTest {
+    @Mock
+    private TransactionService transactionService;
+
+    private final AccountTaskExecutor accountTaskExecutor =
+            new AccountTaskExecutor(TransactionMode.LOCK, 0, 10);
+
+    @Test
+    void groupByAccountAndKeepRequestOrder() {
+        //given
+        UseBalanceBatchService batchService =
+                new UseBalanceBatchService(transactionService, accountTaskExecutor);
+        willReturn(List.of(result("1000000000", 100L), result("1000000000", 300L)))
+                .given(transactionService).useBalanceGroup(argThat(group ->
+                        group != null && group.getAccountNumber().equals("1000000000")));
+        willThrow(new AccountException(ACCOUNT_TRANSACTION_LOCK))
+                .given(transactionService).useBalanceGroup(argThat(group ->
+                        group != null && group.getAccountNumber().equals("1000000001")));
+        given(transactionService.failUseBalanceGroup(any(), eq(ACCOUNT_TRANSACTION_LOCK)))
+                .willReturn(List.of(TransactionDTO.builder()
+                        .accountNumber("1000000001")
+                        .amount(200L)
+                        .transactionResultType(FAIL)
+                        .errorCode(ACCOUNT_TRANSACTION_LOCK)
+                        .build()));
+
+        //when
+        List<TransactionDTO> results = batchService.useBalance(List.of(
+                new UseBalance.Request(1L, "1000000000", 100L),
+                new UseBalance.Request(1L, "1000000001", 200L),
+                new UseBalance.Request(1L, "1000000000", 300L))).join();
+
+        //then
+        verify(transactionService, times(2)).useBalanceGroup(any(UseBalanceBatch.AccountGroup.class));
+        assertEquals(3, results.size());
+        assertEquals(100L, results.get(0).getAmount());
+        assertEquals(ACCOUNT_TRANSACTION_LOCK, results.get(1).getErrorCode());
+        assertEquals(300L, results.get(2).getAmount());
+    }
+
+    @Test
+    void failOnlyTheGroupThatThrowsUnexpectedException() {
+        //given
+        UseBalanceBatchService batchService =
+                new UseBalanceBatchService(transactionService, accountTaskExecutor);
+        willReturn(List.of(result("1000000000", 100L)))
+                .given(transactionService).useBalanceGroup(argThat(group ->
+                        group != null && group.getAccountNumber().equals("1000000000")));
+        willThrow(new ObjectOptimisticLockingFailureException(Account.class, 1L))
+                .given(transactionService).useBalanceGroup(argThat(group ->
+                        group != null && group.getAccountNumber().equals("1000000001")));
+        willThrow(new DataAccessResourceFailureException("connection lost"))
+                .given(transactionService).useBalanceGroup(argThat(group ->
+                        group != null && group.getAccountNumber().equals("1000000002")));
+        given(transactionService.failUseBalanceGroup(any(), any()))
+                .willAnswer(invocation -> List.of(TransactionDTO.builder()
+                        .transactionResultType(FAIL)
+                        .errorCode(invocation.getArgument(1))
+                        .build()));
+
+        //when
+        List<TransactionDTO> results = batchService.useBalance(List.of(
+                new UseBalance.Request(1L, "1000000000", 100L),
+                new UseBalance.Request(1L, "1000000001", 200L),
+                new UseBalance.Request(1L, "1000000002", 300L))).join();
+
+        //then
+        assertEquals(3, results.size());
+        assertEquals(SUCCESS, results.get(0).getTransactionResultType());
+        assertEquals(ACCOUNT_TRANSACTION_LOCK, results.get(1).getErrorCode());
+        assertEquals(INTERNAL_SERVER_ERROR, results.get(2).getErrorCode());
+    }
+
+    private static TransactionDTO result(String accountNumber, Long amount) {
+        return TransactionDTO.builder()
+                .accountNumber(accountNumber)
+                .amount(amount)
+                .transactionResultType(SUCCESS)
+                .build();
+    }
+}